@@ -1,5 +1,6 @@
 package com.ssafy.tiggle.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,18 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 이체 아웃박스 워커 전용 풀 (동시 실행 수는 워커의 세마포어가 제한)
+    @Bean(name = "transferOutboxExecutor")
+    public ThreadPoolTaskExecutor transferOutboxExecutor(@Value("${outbox.transfer.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("Outbox-Transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
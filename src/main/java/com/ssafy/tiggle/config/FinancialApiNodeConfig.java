@@ -0,0 +1,33 @@
+package com.ssafy.tiggle.config;
+
+import com.ssafy.tiggle.util.TransactionUniqueNoAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.ZoneId;
+
+/**
+ * 금융 API 기관거래고유번호 발급기 설정.
+ * - finapi.node-id (FINAPI_NODE_ID): 서버마다 다른 0~99 값
+ * - finapi.node-id-required (FINAPI_NODE_ID_REQUIRED): true 면 미설정 시 기동 실패, false 면 호스트명 해시로 대체하고 경고
+ *   (모든 배포 환경에 FINAPI_NODE_ID 가 들어간 뒤 true 로 전환)
+ */
+@Slf4j
+@Configuration
+public class FinancialApiNodeConfig {
+
+    @Bean
+    public TransactionUniqueNoAllocator transactionUniqueNoAllocator(
+            @Value("${finapi.node-id:}") String nodeId,
+            @Value("${finapi.node-id-required:false}") boolean required) {
+        int resolved = TransactionUniqueNoAllocator.resolveNodeId(nodeId, required);
+        if (nodeId == null || nodeId.isBlank()) {
+            log.warn("[FinancialApi] FINAPI_NODE_ID unset, using host-derived node id={} (may collide across servers)", resolved);
+        } else {
+            log.info("[FinancialApi] transaction unique no node id={}", resolved);
+        }
+        return new TransactionUniqueNoAllocator(resolved, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy.tiggle.config;
+
+import com.ssafy.tiggle.controller.finopenapi.FinancialApiSimulatorController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 금융 API 시뮬레이터 전용 Tomcat 커넥터 (finapi-sim 프로필).
+ * 앱의 요청 스레드가 금융 API 응답을 .block() 으로 기다리는 동안 같은 스레드 풀로 시뮬레이터 요청을 받으면,
+ * 부하가 클 때 시뮬레이터가 스레드를 못 얻어 처리량이 왜곡되거나 교착된다.
+ * 그래서 시뮬레이터는 루프백에만 열린 별도 포트(자체 스레드 풀)로만 받고, 앱 포트로 들어온 시뮬레이터 요청은 404 로 막는다.
+ */
+@Profile("finapi-sim")
+@Configuration
+public class FinancialApiSimulatorConfig {
+
+    @Value("${finapi-sim.port:18081}")
+    private int port;
+
+    // 시뮬레이터 커넥터의 요청 스레드 수 (응답 지연은 Mono.delay 라 스레드를 오래 잡지 않음)
+    @Value("${finapi-sim.max-threads:100}")
+    private int maxThreads;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> financialApiSimulatorConnector() {
+        return factory -> {
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(port);
+            connector.setProperty("address", "127.0.0.1");
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxThreads(maxThreads);
+            }
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> financialApiSimulatorPortFilter() {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                if (request.getLocalPort() != port) {
+                    response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+                chain.doFilter(request, response);
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(FinancialApiSimulatorController.BASE_PATH + "/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
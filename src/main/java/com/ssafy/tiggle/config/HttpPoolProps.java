@@ -0,0 +1,24 @@
+package com.ssafy.tiggle.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebClient 별 커넥션 풀 설정. 값이 비어 있으면 {@link WebClientConfig} 의 풀별 기본값을 쓴다.
+ */
+@ConfigurationProperties(prefix = "http-pool")
+public record HttpPoolProps(
+        Pool common,
+        Pool ssafy,
+        Pool openai,
+        Pool gemini
+) {
+    public record Pool(
+            Integer maxConnections,
+            Integer pendingAcquireMaxCount,
+            Integer pendingAcquireTimeoutMs,
+            Integer maxIdleTimeSeconds,
+            Integer maxLifeTimeSeconds,
+            Integer evictInBackgroundSeconds,
+            Boolean keepAlive
+    ) {}
+}
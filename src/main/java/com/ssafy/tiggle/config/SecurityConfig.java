@@ -39,6 +39,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/fintest/**").permitAll()
                     .requestMatchers("/api/test/**").permitAll()
                     .requestMatchers("/api/shortform/**").permitAll()
+                    .requestMatchers("/sim/finapi/**").permitAll() // 금융 API 시뮬레이터 (finapi-sim 프로필에서만 존재, /_admin/** 은 X-Admin-Token 확인)
+                    .requestMatchers("/api/admin/**").permitAll() // 관리자 토큰(X-Admin-Token)은 컨트롤러에서 확인
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -1,17 +1,25 @@
 package com.ssafy.tiggle.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HttpPoolProps.class)
 public class WebClientConfig {
 
+    private final HttpPoolProps poolProps;
+
     @Value("${external-api.ssafy.base-url}")
     private String ssafyBaseUrl;
 
@@ -29,9 +37,11 @@ public class WebClientConfig {
 
     @Bean
     public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(commonConnectionProvider())
                 .responseTimeout(Duration.ofSeconds(30))
-                .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(keepAlive(poolProps.common()));
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
@@ -41,9 +51,11 @@ public class WebClientConfig {
 
     @Bean
     public WebClient ssafyFinApiWebClient() {
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(ssafyConnectionProvider())
                 .responseTimeout(Duration.ofSeconds(30))
-                .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(keepAlive(poolProps.ssafy()));
 
         return WebClient.builder()
                 .baseUrl(ssafyBaseUrl)
@@ -54,9 +66,11 @@ public class WebClientConfig {
 
     @Bean
     public WebClient generateAiApiWebClient() {
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider())
                 .responseTimeout(Duration.ofSeconds(30))
-                .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(keepAlive(poolProps.openai()));
 
         return WebClient.builder()
                 .baseUrl(openAiBaseUrl)
@@ -68,10 +82,12 @@ public class WebClientConfig {
 
     @Bean
     public WebClient geminiApiWebClient() {
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider())
                 .responseTimeout(Duration.ofMinutes(2)) // Gemini API는 비디오 생성시 시간이 오래 걸릴 수 있음
                 .followRedirect(true) // 리다이렉트 자동 처리
-                .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000);
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(keepAlive(poolProps.gemini()));
 
         return WebClient.builder()
                 .baseUrl(geminiBaseUrl)
@@ -81,4 +97,50 @@ public class WebClientConfig {
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(50 * 1024 * 1024))
                 .build();
     }
-}
\ No newline at end of file
+
+    // ===== 커넥션 풀 =====
+    // 업스트림마다 풀을 분리해 느린 Gemini 다운로드나 스케줄러 폭주가 뱅킹 호출의 커넥션을 잡아먹지 않게 한다.
+    // metrics(true) 로 reactor.netty.connection.provider.{total,active,idle,pending}.connections 게이지가 name 태그별로 노출된다.
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider commonConnectionProvider() {
+        return connectionProvider("common", poolProps.common(), 50, 200);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ssafyConnectionProvider() {
+        return connectionProvider("ssafy-finapi", poolProps.ssafy(), 100, 500);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider() {
+        return connectionProvider("openai", poolProps.openai(), 20, 100);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider() {
+        return connectionProvider("gemini", poolProps.gemini(), 10, 50);
+    }
+
+    private ConnectionProvider connectionProvider(String name, HttpPoolProps.Pool pool, int defaultMaxConnections, int defaultPendingMax) {
+        HttpPoolProps.Pool p = pool != null ? pool : new HttpPoolProps.Pool(null, null, null, null, null, null, null);
+
+        return ConnectionProvider.builder(name)
+                .maxConnections(orDefault(p.maxConnections(), defaultMaxConnections))
+                .pendingAcquireMaxCount(orDefault(p.pendingAcquireMaxCount(), defaultPendingMax))
+                .pendingAcquireTimeout(Duration.ofMillis(orDefault(p.pendingAcquireTimeoutMs(), 5000)))
+                .maxIdleTime(Duration.ofSeconds(orDefault(p.maxIdleTimeSeconds(), 30)))
+                .maxLifeTime(Duration.ofSeconds(orDefault(p.maxLifeTimeSeconds(), 300)))
+                .evictInBackground(Duration.ofSeconds(orDefault(p.evictInBackgroundSeconds(), 60)))
+                .metrics(true)
+                .build();
+    }
+
+    private boolean keepAlive(HttpPoolProps.Pool pool) {
+        return pool == null || pool.keepAlive() == null || pool.keepAlive();
+    }
+
+    private static int orDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.tiggle.controller.admin;
+
+import com.ssafy.tiggle.dto.admin.response.AdminJobProgressResponse;
+import com.ssafy.tiggle.dto.common.ApiResponse;
+import com.ssafy.tiggle.security.AdminTokenVerifier;
+import com.ssafy.tiggle.service.admin.AdminJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * 관리자용 배치 실행 API. 관리자 권한 체계가 없어 JWT 대신 X-Admin-Token 헤더로 확인한다 ({@link AdminTokenVerifier}).
+ * admin.api-token 이 비어 있으면 API 전체가 비활성화된다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jobs")
+@Tag(name = "관리자 배치 API", description = "주간 배치 수동 실행/진행 상황 조회")
+public class AdminJobController {
+
+    private static final String TOKEN_HEADER = AdminTokenVerifier.TOKEN_HEADER;
+
+    private final AdminJobService adminJobService;
+    private final AdminTokenVerifier adminTokenVerifier;
+
+    /**
+     * 배치 실행 (실패한 주 재실행 포함 — 끝난 부분은 체크포인트로 건너뜀)
+     *
+     * @param job    AUTO_SAVING / UNIVERSITY_DONATION / THEME_DONATION
+     * @param dryRun true 면 대상과 금액만 계산 (이체 없음)
+     * @return 실행 id 와 첫 진행 상황
+     */
+    @PostMapping("/{job}/runs")
+    @Operation(summary = "배치 실행", description = "주간 배치를 비동기로 실행합니다. dryRun=true 면 이체 없이 대상과 금액만 계산합니다.")
+    public ResponseEntity<ApiResponse<AdminJobProgressResponse>> startJob(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @PathVariable AdminJobService.Job job,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        authorize(token);
+        return ResponseEntity.ok(ApiResponse.success(adminJobService.start(job, dryRun)));
+    }
+
+    @GetMapping("/runs/{runId}")
+    @Operation(summary = "배치 진행 상황", description = "처리 건수, 속도, 남은 예상 시간을 반환합니다.")
+    public ResponseEntity<ApiResponse<AdminJobProgressResponse>> getProgress(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @PathVariable String runId) {
+        authorize(token);
+        return ResponseEntity.ok(ApiResponse.success(adminJobService.getProgress(runId)));
+    }
+
+    @GetMapping(value = "/runs/{runId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "배치 진행 상황 스트림 (SSE)", description = "작업이 끝날 때까지 진행 상황을 주기적으로 보냅니다.")
+    public Flux<ServerSentEvent<AdminJobProgressResponse>> streamProgress(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token,
+            @PathVariable String runId) {
+        authorize(token);
+        return adminJobService.streamProgress(runId)
+                .map(progress -> ServerSentEvent.<AdminJobProgressResponse>builder()
+                        .event(progress.finished() ? "done" : "progress")
+                        .data(progress)
+                        .build());
+    }
+
+    private void authorize(String token) {
+        adminTokenVerifier.verify(token);
+    }
+}
@@ -12,9 +12,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,6 +26,9 @@ import java.util.List;
 @Tag(name = "기부 API", description = "기부 관련 API")
 public class DonationController {
 
+    private static final String RANKING_SOURCE_HEADER = "X-Ranking-Source";
+    private static final String RANKING_SYNCED_AT_HEADER = "X-Ranking-Synced-At";
+
     private final DonationService donationService;
 
     /**
@@ -174,8 +180,8 @@ public class DonationController {
     @ApiResponses(value = {
     })
     public ResponseEntity<ApiResponse<List<DonationRanking>>> getUniversityRanking() {
-        List<DonationRanking> response = donationService.getUniversityRanking();
-        return ResponseEntity.ok(ApiResponse.success(response));
+        DonationRankingResult response = donationService.getUniversityRanking();
+        return rankingResponse(response);
     }
 
     /**
@@ -189,8 +195,21 @@ public class DonationController {
     })
     public ResponseEntity<ApiResponse<List<DonationRanking>>> getDepartmentRanking() {
         Long userId = JwtUtil.getCurrentUserId();
-        List<DonationRanking> response = donationService.getDepartmentRanking(userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        DonationRankingResult response = donationService.getDepartmentRanking(userId);
+        return rankingResponse(response);
+    }
+
+    /**
+     * 랭킹 출처(cache/db)와 마지막 정합성 점검 시각(ISO-8601)은 헤더로 전달 (본문 형식은 그대로 유지).
+     * 랭킹은 ZINCRBY 로 계속 갱신되므로 HTTP 캐시 의미가 있는 Age 대신 별도 헤더를 쓴다.
+     */
+    private ResponseEntity<ApiResponse<List<DonationRanking>>> rankingResponse(DonationRankingResult result) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(RANKING_SOURCE_HEADER, result.cached() ? "cache" : "db");
+        if (result.cached()) {
+            headers.add(RANKING_SYNCED_AT_HEADER, result.syncedAt().toString());
+        }
+        return ResponseEntity.ok().headers(headers).body(ApiResponse.success(result.rankings()));
     }
 
     /**
@@ -207,4 +226,38 @@ public class DonationController {
         CharacterLevel response = donationService.useHeart(userId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * 나의 주간 기부 감사 로그 조회
+     *
+     * @param week 조회할 주에 속한 날짜 (없으면 이번 주)
+     * @return 해당 주의 출금/스킵/실패 이벤트
+     */
+    @GetMapping("/audit")
+    @Operation(summary = "나의 주간 기부 처리 내역", description = "주간 자동 기부 배치에서 나의 저금통이 어떻게 처리됐는지 조회합니다.")
+    public ResponseEntity<ApiResponse<List<DonationAuditEvent>>> getMyAuditEvents(
+            @Parameter(description = "조회할 주에 속한 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week
+    ) {
+        Long userId = JwtUtil.getCurrentUserId();
+        List<DonationAuditEvent> response = donationService.getMyDonationAuditEvents(userId, week);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 우리 학교 주간 기부 감사 로그 조회
+     *
+     * @param week 조회할 주에 속한 날짜 (없으면 이번 주)
+     * @return 해당 주의 학교 기부 이벤트
+     */
+    @GetMapping("/audit/university")
+    @Operation(summary = "학교 주간 기부 처리 내역", description = "주간 자동 기부 배치에서 소속 학교의 출금/테마 송금 내역을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<DonationAuditEvent>>> getUniversityAuditEvents(
+            @Parameter(description = "조회할 주에 속한 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week
+    ) {
+        Long userId = JwtUtil.getCurrentUserId();
+        List<DonationAuditEvent> response = donationService.getUniversityDonationAuditEvents(userId, week);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
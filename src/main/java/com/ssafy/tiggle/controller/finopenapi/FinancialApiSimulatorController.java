@@ -0,0 +1,250 @@
+package com.ssafy.tiggle.controller.finopenapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.tiggle.constants.FinancialApiEndpoints;
+import com.ssafy.tiggle.security.AdminTokenVerifier;
+import com.ssafy.tiggle.service.finopenapi.simulator.FinancialApiSimulator;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * SSAFY 금융 API 대역 서버 (finapi-sim 프로필에서만 등록).
+ * external-api.ssafy.base-url 을 이 컨트롤러 경로로 돌리면 실제 API 없이 기부/저금통/더치페이 흐름을 부하 테스트할 수 있다.
+ * 응답 지연/오류는 설정값 또는 /_admin/faults 로 실행 중에 바꿀 수 있다. /_admin/** 는 X-Admin-Token 으로 확인한다.
+ */
+@Slf4j
+@Hidden
+@Profile("finapi-sim")
+@RestController
+@RequestMapping(FinancialApiSimulatorController.BASE_PATH)
+@RequiredArgsConstructor
+public class FinancialApiSimulatorController {
+
+    public static final String BASE_PATH = "/sim/finapi";
+
+    private final FinancialApiSimulator simulator;
+    private final AdminTokenVerifier adminTokenVerifier;
+
+    // ===== 장애 주입 =====
+    @Value("${finapi-sim.latency-ms:50}")
+    private volatile long latencyMs;
+
+    @Value("${finapi-sim.latency-jitter-ms:50}")
+    private volatile long latencyJitterMs;
+
+    // 0.0 ~ 1.0, 이 확률로 HTTP 500 응답
+    @Value("${finapi-sim.error-rate:0.0}")
+    private volatile double errorRate;
+
+    // 0.0 ~ 1.0, 이 확률로 응답 지연(hang-ms) — 타임아웃/서킷 브레이커 확인용
+    @Value("${finapi-sim.hang-rate:0.0}")
+    private volatile double hangRate;
+
+    @Value("${finapi-sim.hang-ms:35000}")
+    private volatile long hangMs;
+
+    // ===== 사용자 =====
+
+    @PostMapping(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.CREATE_USER)
+    public Mono<ResponseEntity<Object>> createUser(@RequestBody JsonNode body) {
+        return handle("createUser", () -> simulator.createUser(text(body, "userId")));
+    }
+
+    @PostMapping(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.SEARCH_USER)
+    public Mono<ResponseEntity<Object>> searchUser(@RequestBody JsonNode body) {
+        return handle("searchUser", () -> simulator.searchUser(text(body, "userId")));
+    }
+
+    // ===== 수시입출금 =====
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.CREATE_DEMAND_DEPOSIT_ACCOUNT)
+    public Mono<ResponseEntity<Object>> createAccount(@RequestBody JsonNode body) {
+        return handle("createDemandDepositAccount", () -> simulator.createAccount(userKey(body), "createDemandDepositAccount"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_LIST)
+    public Mono<ResponseEntity<Object>> listAccounts(@RequestBody JsonNode body) {
+        return handle("inquireDemandDepositAccountList", () -> simulator.listAccounts(userKey(body), "inquireDemandDepositAccountList"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT)
+    public Mono<ResponseEntity<Object>> getAccount(@RequestBody JsonNode body) {
+        return handle("inquireDemandDepositAccount",
+                () -> simulator.getAccount(userKey(body), text(body, "accountNo"), "inquireDemandDepositAccount"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_BALANCE)
+    public Mono<ResponseEntity<Object>> getBalance(@RequestBody JsonNode body) {
+        return handle("inquireDemandDepositAccountBalance",
+                () -> simulator.getBalance(userKey(body), text(body, "accountNo"), "inquireDemandDepositAccountBalance"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_HOLDER_NAME)
+    public Mono<ResponseEntity<Object>> getHolderName(@RequestBody JsonNode body) {
+        return handle("inquireDemandDepositAccountHolderName",
+                () -> simulator.getHolderName(userKey(body), text(body, "accountNo"), "inquireDemandDepositAccountHolderName"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.DELETE_DEMAND_DEPOSIT_ACCOUNT)
+    public Mono<ResponseEntity<Object>> deleteAccount(@RequestBody JsonNode body) {
+        return handle("deleteDemandDepositAccount",
+                () -> simulator.deleteAccount(userKey(body), text(body, "accountNo"), "deleteDemandDepositAccount"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_DEPOSIT)
+    public Mono<ResponseEntity<Object>> deposit(@RequestBody JsonNode body) {
+        return handle("updateDemandDepositAccountDeposit",
+                () -> simulator.deposit(userKey(body), text(body, "accountNo"), amount(body),
+                        text(body, "transactionSummary"), "updateDemandDepositAccountDeposit"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_WITHDRAWAL)
+    public Mono<ResponseEntity<Object>> withdraw(@RequestBody JsonNode body) {
+        return handle("updateDemandDepositAccountWithdrawal",
+                () -> simulator.withdraw(userKey(body), text(body, "accountNo"), amount(body),
+                        text(body, "transactionSummary"), "updateDemandDepositAccountWithdrawal"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_TRANSFER)
+    public Mono<ResponseEntity<Object>> transfer(@RequestBody JsonNode body) {
+        return handle("updateDemandDepositAccountTransfer",
+                () -> simulator.transfer(userKey(body),
+                        text(body, "depositAccountNo"), text(body, "depositTransactionSummary"),
+                        amount(body),
+                        text(body, "withdrawalAccountNo"), text(body, "withdrawalTransactionSummary"),
+                        "updateDemandDepositAccountTransfer"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY_LIST)
+    public Mono<ResponseEntity<Object>> history(@RequestBody JsonNode body) {
+        return handle("inquireTransactionHistoryList",
+                () -> simulator.history(userKey(body), text(body, "accountNo"),
+                        text(body, "startDate"), text(body, "endDate"),
+                        text(body, "transactionType"), text(body, "orderByType"),
+                        "inquireTransactionHistoryList"));
+    }
+
+    @PostMapping(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY)
+    public Mono<ResponseEntity<Object>> historyOne(@RequestBody JsonNode body) {
+        return handle("inquireTransactionHistory",
+                () -> simulator.historyOne(userKey(body), text(body, "accountNo"),
+                        text(body, "transactionUniqueNo"), "inquireTransactionHistory"));
+    }
+
+    // ===== 관리 =====
+
+    @GetMapping("/_admin/faults")
+    public Map<String, Object> getFaults(@RequestHeader(value = AdminTokenVerifier.TOKEN_HEADER, required = false) String token) {
+        adminTokenVerifier.verify(token);
+        return faults();
+    }
+
+    @PutMapping("/_admin/faults")
+    public Map<String, Object> updateFaults(@RequestHeader(value = AdminTokenVerifier.TOKEN_HEADER, required = false) String token,
+                                            @RequestParam(required = false) Long latencyMs,
+                                            @RequestParam(required = false) Long latencyJitterMs,
+                                            @RequestParam(required = false) Double errorRate,
+                                            @RequestParam(required = false) Double hangRate,
+                                            @RequestParam(required = false) Long hangMs) {
+        adminTokenVerifier.verify(token);
+        if (latencyMs != null) this.latencyMs = Math.max(0, latencyMs);
+        if (latencyJitterMs != null) this.latencyJitterMs = Math.max(0, latencyJitterMs);
+        if (errorRate != null) this.errorRate = clamp(errorRate);
+        if (hangRate != null) this.hangRate = clamp(hangRate);
+        if (hangMs != null) this.hangMs = Math.max(0, hangMs);
+        log.info("[FinApiSim] faults updated {}", faults());
+        return faults();
+    }
+
+    @GetMapping("/_admin/stats")
+    public Map<String, Object> stats(@RequestHeader(value = AdminTokenVerifier.TOKEN_HEADER, required = false) String token) {
+        adminTokenVerifier.verify(token);
+        return simulator.stats();
+    }
+
+    @PostMapping("/_admin/reset")
+    public ResponseEntity<Void> reset(@RequestHeader(value = AdminTokenVerifier.TOKEN_HEADER, required = false) String token) {
+        adminTokenVerifier.verify(token);
+        simulator.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    // ===== 내부 =====
+
+    private Map<String, Object> faults() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("latencyMs", latencyMs);
+        m.put("latencyJitterMs", latencyJitterMs);
+        m.put("errorRate", errorRate);
+        m.put("hangRate", hangRate);
+        m.put("hangMs", hangMs);
+        return m;
+    }
+
+    /** 지연 → 오류 주입 → 처리 순. 처리 오류는 실제 API 처럼 400 + responseCode 로 응답 */
+    private Mono<ResponseEntity<Object>> handle(String apiName, Supplier<Object> action) {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+
+        long delay = r.nextDouble() < hangRate
+                ? hangMs
+                : latencyMs + (latencyJitterMs > 0 ? r.nextLong(latencyJitterMs + 1) : 0);
+        boolean fail = r.nextDouble() < errorRate;
+
+        return Mono.delay(Duration.ofMillis(delay))
+                .map(tick -> {
+                    if (fail) {
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body((Object) error("Q1000", "시뮬레이터 주입 오류 (" + apiName + ")"));
+                    }
+                    try {
+                        return ResponseEntity.ok(action.get());
+                    } catch (FinancialApiSimulator.SimulatorError e) {
+                        return ResponseEntity.badRequest().body((Object) error(e.getCode(), e.getMessage()));
+                    }
+                });
+    }
+
+    private static Map<String, String> error(String code, String message) {
+        return Map.of("responseCode", code, "responseMessage", message);
+    }
+
+    private static String userKey(JsonNode body) {
+        JsonNode header = body.get("Header");
+        return header == null ? null : text(header, "userKey");
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode v = node.get(field);
+        return (v == null || v.isNull()) ? null : v.asText();
+    }
+
+    // 금액이 없거나 숫자가 아니면 실제 API 와 같이 A1012 (0 이하 금액은 시뮬레이터에서 거절)
+    private static long amount(JsonNode body) {
+        String v = text(body, "transactionBalance");
+        if (v == null || v.isBlank()) {
+            throw new FinancialApiSimulator.SimulatorError("A1012", "거래금액이 유효하지 않습니다.");
+        }
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException e) {
+            throw new FinancialApiSimulator.SimulatorError("A1012", "거래금액이 유효하지 않습니다.");
+        }
+    }
+
+    private static double clamp(double v) {
+        return Math.max(0.0, Math.min(1.0, v));
+    }
+}
@@ -8,6 +8,5 @@ public record DutchpayCreatedEvent(
         String message,
         Long totalAmount,
         Long creatorId,
-        Map<Long, Long> userShareMap,
-        String encryptedUserKey
+        Map<Long, Long> userShareMap
 ) {}
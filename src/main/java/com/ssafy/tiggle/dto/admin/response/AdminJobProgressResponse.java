@@ -0,0 +1,35 @@
+package com.ssafy.tiggle.dto.admin.response;
+
+/**
+ * 관리자 배치 실행 진행 상황 스냅샷.
+ * expected/etaSeconds 는 대상 건수를 알 수 있을 때만 값이 있다 (모르면 0/null).
+ */
+public record AdminJobProgressResponse(
+
+        String runId,
+        String job,
+        boolean dryRun,
+        Status status,
+        long processed,
+        long skipped,
+        long failed,
+        long amount,
+        long total,
+        long expected,
+        double itemsPerSecond,
+        Long etaSeconds,
+        long elapsedSeconds,
+        String error
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        SKIPPED     // 다른 인스턴스가 같은 작업을 실행 중이라 건너뜀
+    }
+
+    public boolean finished() {
+        return status != Status.RUNNING;
+    }
+}
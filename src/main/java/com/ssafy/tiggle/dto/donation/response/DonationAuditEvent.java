@@ -0,0 +1,30 @@
+package com.ssafy.tiggle.dto.donation.response;
+
+/**
+ * 주간 대학 기부 감사 로그 한 건 (donation_audit_event 한 행).
+ * week 는 해당 주 월요일(yyyyMMdd), accountNo 는 마스킹된 값만 남긴다.
+ */
+public record DonationAuditEvent(
+
+        String at,
+        String week,
+        Type type,
+        Long universityId,
+        Long userId,
+        Long piggyId,
+        String theme,
+        String accountNo,
+        Long amount,
+        String reason
+) {
+
+    public enum Type {
+        RUN_START,
+        WITHDRAW_DONE,
+        WITHDRAW_SKIPPED,
+        WITHDRAW_FAILED,
+        THEME_ACCOUNT_MISSING,
+        THEME_TRANSFER_DONE,
+        THEME_TRANSFER_FAILED
+    }
+}
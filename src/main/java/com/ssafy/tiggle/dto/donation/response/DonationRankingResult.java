@@ -0,0 +1,19 @@
+package com.ssafy.tiggle.dto.donation.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 랭킹 조회 결과와 출처.
+ * syncedAt 이 있으면 Redis 랭킹 캐시에서 읽은 것 (마지막 정합성 점검 시각), 없으면 캐시가 비어 DB 에서 집계한 것.
+ */
+public record DonationRankingResult(
+
+        List<DonationRanking> rankings,
+        Instant syncedAt
+) {
+
+    public boolean cached() {
+        return syncedAt != null;
+    }
+}
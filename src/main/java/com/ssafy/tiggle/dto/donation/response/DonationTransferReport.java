@@ -0,0 +1,52 @@
+package com.ssafy.tiggle.dto.donation.response;
+
+import com.ssafy.tiggle.entity.TransferOutboxStatus;
+
+import java.util.List;
+
+/**
+ * 주간 학교 -> 기부단체 송금 결과.
+ * completed 가 false 면 대기 시간 안에 끝나지 않은 이체가 남아 있다 (아웃박스 워커가 계속 처리).
+ */
+public record DonationTransferReport(
+
+        String week,
+        boolean completed,
+        long succeeded,
+        long failed,
+        long pending,
+        long totalAmount,
+        List<UniversityResult> universities
+) {
+
+    public record UniversityResult(
+            Long universityId,
+            String name,
+            List<ThemeResult> themes
+    ) {}
+
+    public record ThemeResult(
+            Long categoryId,
+            ThemeStatus status,
+            Long balance,
+            String reason,
+            List<OrganizationResult> organizations
+    ) {}
+
+    public record OrganizationResult(
+            Long organizationId,
+            String name,
+            Long amount,
+            TransferOutboxStatus status,
+            String lastError
+    ) {}
+
+    public enum ThemeStatus {
+        ENQUEUED,           // 단체별 이체 등록됨 (결과는 organizations)
+        PLANNED,            // dry-run: 단체별 배분 계획만 (이체 상태 없음)
+        LOW_BALANCE,        // 잔고가 최소 송금액 미만
+        NO_ACCOUNT,         // 학교 테마 계좌/계정 정보 없음
+        NO_ORGANIZATION,    // 해당 테마 기부단체 없음
+        FAILED              // 잔고 조회/등록 실패
+    }
+}
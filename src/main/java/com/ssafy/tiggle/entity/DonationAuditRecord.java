@@ -0,0 +1,80 @@
+package com.ssafy.tiggle.entity;
+
+import com.ssafy.tiggle.dto.donation.response.DonationAuditEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 주간 대학 기부 감사 로그 한 건 (append-only). 모든 노드가 같은 표에 쌓으므로 어느 노드에서 조회해도 같은 결과.
+ * 조회는 항상 한 주 안에서 유저 또는 학교로 거르므로 (week, user_id) / (week, university_id) 인덱스로 읽는다.
+ */
+@Entity
+@Table(
+        name = "donation_audit_event",
+        indexes = {
+                @Index(name = "idx_donation_audit_week_user", columnList = "week, user_id, id"),
+                @Index(name = "idx_donation_audit_week_university", columnList = "week, university_id, id")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class DonationAuditRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 발생 시각 (ISO-8601, 오프셋 포함 — 응답에 그대로 내려줌)
+    @Column(name = "occurred_at", length = 40, nullable = false)
+    private String occurredAt;
+
+    // 해당 주 월요일 yyyyMMdd
+    @Column(name = "week", length = 8, nullable = false)
+    private String week;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 30, nullable = false)
+    private DonationAuditEvent.Type type;
+
+    @Column(name = "university_id")
+    private Long universityId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "piggy_id")
+    private Long piggyId;
+
+    @Column(name = "theme", length = 30)
+    private String theme;
+
+    // 마스킹된 계좌번호만
+    @Column(name = "account_no", length = 30)
+    private String accountNo;
+
+    @Column(name = "amount")
+    private Long amount;
+
+    @Column(name = "reason", length = 300)
+    private String reason;
+
+    public static DonationAuditRecord of(DonationAuditEvent e) {
+        return DonationAuditRecord.builder()
+                .occurredAt(e.at())
+                .week(e.week())
+                .type(e.type())
+                .universityId(e.universityId())
+                .userId(e.userId())
+                .piggyId(e.piggyId())
+                .theme(e.theme())
+                .accountNo(e.accountNo())
+                .amount(e.amount())
+                .reason(e.reason() != null && e.reason().length() > 300 ? e.reason().substring(0, 300) : e.reason())
+                .build();
+    }
+
+    public DonationAuditEvent toEvent() {
+        return new DonationAuditEvent(occurredAt, week, type, universityId, userId, piggyId, theme, accountNo, amount, reason);
+    }
+}
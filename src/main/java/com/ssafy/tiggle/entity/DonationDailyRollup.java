@@ -0,0 +1,45 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 기부 집계 (날짜, 집계 단위, 대상, 테마) 하나당 한 행.
+ * 기부내역(donation_history)을 저장하는 트랜잭션에서 함께 더해지므로, 현황/요약 조회는 원본 내역 대신 이 표만 읽는다.
+ */
+@Entity
+@Table(name = "donation_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_donation_daily_rollup",
+                columnNames = {"scope_type", "scope_id", "esg_category_id", "rollup_date"}))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class DonationDailyRollup {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 기부일 (donated_at 기준)
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", length = 20, nullable = false)
+    private DonationRollupScope scopeType;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "esg_category_id", nullable = false)
+    private EsgCategory esgCategory;
+
+    @Column(name = "amount", nullable = false, columnDefinition = "DECIMAL(15,2) DEFAULT 0.00")
+    private BigDecimal amount;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount;
+}
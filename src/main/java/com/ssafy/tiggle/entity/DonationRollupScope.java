@@ -0,0 +1,8 @@
+package com.ssafy.tiggle.entity;
+
+/** 일별 기부 집계 단위 — scope_id 가 가리키는 대상 */
+public enum DonationRollupScope {
+    USER,          // 기부자 (users.id)
+    DEPARTMENT,    // 기부자 소속 학과 (department.id)
+    UNIVERSITY     // 기부자 소속 학교 (university.id)
+}
@@ -0,0 +1,59 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주간 배치 실행 체크포인트. (작업, 회차, 범위) 하나당 한 행.
+ * 재시작/수동 재실행 시 last_processed_id 다음부터 이어서 처리하고, 이미 COMPLETED 면 건너뛴다.
+ */
+@Entity
+@Table(name = "job_run",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_run_scope", columnNames = {"job_name", "run_key", "scope"}))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class JobRun {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", length = 50, nullable = false)
+    private String jobName;
+
+    // 회차 (주간 작업은 해당 주 월요일 yyyyMMdd = [W:yyyyMMdd] 태그와 같은 값)
+    @Column(name = "run_key", length = 20, nullable = false)
+    private String runKey;
+
+    // 회차 안의 처리 범위 (예: 파티션 p0, 대학 U:12)
+    @Column(name = "scope", length = 30, nullable = false)
+    private String scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobRunStatus status;
+
+    // 이 id 까지는 청크 단위로 처리가 끝남 (keyset 재개 지점)
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    // 시작(재개 포함) 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "started_at", updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,48 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 실행의 항목별 처리 결과. DONE/SKIPPED 항목은 재개 시 외부 거래내역 확인 없이 건너뛴다.
+ * FAILED 항목은 다음 실행에서 다시 시도한다. FAILED 항목이 남아 있으면 범위를 완료 처리하지 않고,
+ * 재개할 때 체크포인트와 상관없이 처음부터 다시 읽는다 (끝난 항목은 이 테이블로 건너뜀).
+ * 외부 호출이 이미 됐을 수 있는 FAILED 항목은 재시도 전에 거래내역으로 확인한다.
+ */
+@Entity
+@Table(name = "job_run_item",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_run_item", columnNames = {"job_run_id", "item_key"}))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class JobRunItem {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_run_id", nullable = false)
+    private Long jobRunId;
+
+    // 항목 식별자 (예: P:{piggyId}, T:{themeId})
+    @Column(name = "item_key", length = 50, nullable = false)
+    private String itemKey;
+
+    // 합산 단위 (예: 테마 id) — 재개 시 이미 처리한 금액을 다시 합산할 때 사용
+    @Column(name = "group_key", length = 30)
+    private String groupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobRunItemStatus status;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "message", length = 300)
+    private String message;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
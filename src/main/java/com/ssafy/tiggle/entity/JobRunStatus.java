@@ -0,0 +1,5 @@
+package com.ssafy.tiggle.entity;
+
+public enum JobRunStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,67 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/** SSAFY 금융 API 거래내역의 로컬 원장 (계좌별 transactionUniqueNo 단위로 1건) */
+@Entity
+@Table(
+        name = "ledger_transaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_tx_account_unique_no",
+                columnNames = {"account_no", "transaction_unique_no"}),
+        indexes = @Index(name = "idx_ledger_tx_account_transacted_at", columnList = "account_no, transacted_at")
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class LedgerTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_no", length = 30, nullable = false)
+    private String accountNo;
+
+    @Column(name = "transaction_unique_no", length = 30, nullable = false)
+    private String transactionUniqueNo;
+
+    // 거래일자 + 거래시각 (기간 조회/정렬 인덱스용)
+    @Column(name = "transacted_at", nullable = false)
+    private LocalDateTime transactedAt;
+
+    @Column(name = "transaction_date", length = 8)
+    private String transactionDate;
+
+    @Column(name = "transaction_time", length = 6)
+    private String transactionTime;
+
+    @Column(name = "transaction_type", length = 10)
+    private String transactionType;
+
+    @Column(name = "transaction_type_name", length = 20)
+    private String transactionTypeName;
+
+    @Column(name = "transaction_account_no", length = 30)
+    private String transactionAccountNo;
+
+    @Column(name = "amount", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long amount;
+
+    @Column(name = "after_balance", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long afterBalance;
+
+    @Column(name = "summary", length = 255)
+    private String summary;
+
+    @Column(name = "memo", length = 255)
+    private String memo;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 계좌별 원장 동기화 워터마크: [coveredFrom, syncedThrough] 구간이 원장에 반영되어 있음 */
+@Entity
+@Table(name = "ledger_watermark")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class LedgerWatermark {
+
+    @Id
+    @Column(name = "account_no", length = 30)
+    private String accountNo;
+
+    // 동기화에 사용한 userKey 해시 (다른 사용자의 원장 조회 방지)
+    @Column(name = "owner_key_hash", length = 64, nullable = false)
+    private String ownerKeyHash;
+
+    @Column(name = "covered_from", nullable = false)
+    private LocalDate coveredFrom;
+
+    // 마지막으로 받아온 거래일자 (당일은 미완료이므로 다음 동기화 때 다시 조회)
+    @Column(name = "synced_through", nullable = false)
+    private LocalDate syncedThrough;
+
+    // 동기화 시작 시각 (이 시각까지의 거래가 반영됨)
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    // 앱이 직접 만든 거래(이체/입금/출금)로 원장이 낡은 시각. lastSyncedAt 이 이보다 이르면 다시 동기화
+    @Column(name = "invalidated_at")
+    private LocalDateTime invalidatedAt;
+}
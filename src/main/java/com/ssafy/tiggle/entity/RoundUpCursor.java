@@ -0,0 +1,52 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 잔돈(라운드업) 저축 진행 상태. 주계좌 원장(ledger_transaction)을 last_ledger_id 다음부터 읽어
+ * 새 지출의 잔돈만 저축한다. 조회 주기는 계좌 활동에 따라 poll_interval_seconds 가 줄거나 늘어난다.
+ */
+@Entity
+@Table(name = "round_up_cursor",
+        indexes = @Index(name = "idx_round_up_cursor_next_poll", columnList = "next_poll_at"))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class RoundUpCursor {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 추적 중인 주계좌 (주계좌가 바뀌면 새 계좌 기준으로 다시 시작)
+    @Column(name = "account_no", length = 30, nullable = false)
+    private String accountNo;
+
+    // 이 원장 id 까지는 잔돈 계산이 끝남
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId;
+
+    // 추적 시작 시각 — 이전 거래(최초 동기화 백필분)는 잔돈 대상이 아님
+    @Column(name = "tracking_since", nullable = false)
+    private LocalDateTime trackingSince;
+
+    // 최소 이체 금액 미만으로 쌓여 있는 잔돈
+    @Column(name = "pending_amount", nullable = false)
+    private Long pendingAmount;
+
+    @Column(name = "poll_interval_seconds", nullable = false)
+    private Long pollIntervalSeconds;
+
+    @Column(name = "next_poll_at", nullable = false)
+    private LocalDateTime nextPollAt;
+
+    // 마지막으로 새 지출을 발견한 시각
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,87 @@
+package com.ssafy.tiggle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 계좌이체 아웃박스. 업무 트랜잭션 안에서 함께 저장되고, TransferOutboxWorker 가 비동기로 실행한다.
+ * 재시도 전에는 거래내역에서 tag 를 찾아 이미 이체된 건은 다시 보내지 않는다.
+ */
+@Entity
+@Table(name = "transfer_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transfer_outbox_idem", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_transfer_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class TransferOutbox {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 업무 단위 중복 방지 키 (예: DUTCHPAY_TIGGLE:{dutchpayId}:{userId})
+    @Column(name = "idempotency_key", length = 120, nullable = false)
+    private String idempotencyKey;
+
+    // 이체 요약에 붙여 보내는 추적 태그 — 결과를 모를 때 거래내역에서 찾는다
+    @Column(name = "tag", length = 20, nullable = false)
+    private String tag;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 30, nullable = false)
+    private TransferOutboxType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private TransferOutboxStatus status;
+
+    // 후처리 대상 사용자 (DUTCHPAY_TIGGLE)
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 출금 계좌 소유자의 userKey (암호화된 값 그대로 보관)
+    @Column(name = "encrypted_user_key", nullable = false)
+    private String encryptedUserKey;
+
+    @Column(name = "deposit_account_no", length = 30, nullable = false)
+    private String depositAccountNo;
+
+    @Column(name = "deposit_summary")
+    private String depositSummary;
+
+    @Column(name = "withdrawal_account_no", length = 30, nullable = false)
+    private String withdrawalAccountNo;
+
+    @Column(name = "withdrawal_summary")
+    private String withdrawalSummary;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    // true: 입금 요약에 태그를 붙이고 입금 계좌 내역으로 확인 (입금 계좌도 같은 userKey 소유일 때)
+    @Column(name = "verify_on_deposit", nullable = false)
+    private boolean verifyOnDeposit;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커 선점 만료 시각 (서버가 죽으면 만료 후 다른 워커가 이어받음)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
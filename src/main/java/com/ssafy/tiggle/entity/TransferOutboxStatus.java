@@ -0,0 +1,5 @@
+package com.ssafy.tiggle.entity;
+
+public enum TransferOutboxStatus {
+    PENDING, IN_PROGRESS, SUCCEEDED, FAILED
+}
@@ -0,0 +1,8 @@
+package com.ssafy.tiggle.entity;
+
+/** 아웃박스 이체 종류 — 이체 성공 후 DB 후처리가 종류별로 다르다 */
+public enum TransferOutboxType {
+    DUTCHPAY_TIGGLE,   // 더치페이 자투리 → 저금통 (성공 시 저금통 금액 반영)
+    THEME_DONATION,    // 학교 테마 계좌 → 기부단체
+    ROUND_UP           // 지출 잔돈 → 저금통 (성공 시 저금통 금액 반영)
+}
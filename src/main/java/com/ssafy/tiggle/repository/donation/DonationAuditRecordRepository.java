@@ -0,0 +1,23 @@
+package com.ssafy.tiggle.repository.donation;
+
+import com.ssafy.tiggle.entity.DonationAuditRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DonationAuditRecordRepository extends JpaRepository<DonationAuditRecord, Long> {
+
+    // idx_donation_audit_week_user
+    List<DonationAuditRecord> findByWeekAndUserIdOrderByIdAsc(String week, Long userId, Pageable pageable);
+
+    // idx_donation_audit_week_user (한 주의 유저 이벤트는 몇 건뿐이라 학교 조건은 인덱스 범위 안에서 거름)
+    List<DonationAuditRecord> findByWeekAndUserIdAndUniversityIdOrderByIdAsc(String week, Long userId, Long universityId, Pageable pageable);
+
+    // idx_donation_audit_week_university
+    List<DonationAuditRecord> findByWeekAndUniversityIdOrderByIdAsc(String week, Long universityId, Pageable pageable);
+
+    List<DonationAuditRecord> findByWeekOrderByIdAsc(String week, Pageable pageable);
+}
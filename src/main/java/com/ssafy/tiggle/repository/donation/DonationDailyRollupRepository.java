@@ -0,0 +1,140 @@
+package com.ssafy.tiggle.repository.donation;
+
+import com.ssafy.tiggle.entity.DonationDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DonationDailyRollupRepository extends JpaRepository<DonationDailyRollup, Long> {
+
+    /** 기부 1건을 (날짜, 단위, 대상, 테마) 행에 더함. 행이 없으면 생성 (동시 기부도 유니크 키로 한 행에 합쳐짐) */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO donation_daily_rollup (rollup_date, scope_type, scope_id, esg_category_id, amount, donation_count)
+            VALUES (:day, :scopeType, :scopeId, :categoryId, :amount, 1)
+            ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), donation_count = donation_count + 1
+            """, nativeQuery = true)
+    int add(@Param("day") LocalDate day, @Param("scopeType") String scopeType, @Param("scopeId") Long scopeId,
+            @Param("categoryId") Long categoryId, @Param("amount") BigDecimal amount);
+
+    @Query("""
+            SELECT r.esgCategory.name AS category, SUM(r.amount) AS total
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.USER AND r.scopeId = :userId
+            GROUP BY r.esgCategory.name
+            """)
+    List<CategorySumProjection> findTotalAmountByCategoryAndUser(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT r.esgCategory.name AS category, SUM(r.amount) AS total
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.UNIVERSITY AND r.scopeId = :univId
+            GROUP BY r.esgCategory.name
+            """)
+    List<CategorySumProjection> findTotalAmountByCategoryAndUniversity(@Param("univId") Long univId);
+
+    // 전체 현황은 학교 단위 행을 합산 (모든 기부자는 한 학교에 속함)
+    @Query("""
+            SELECT r.esgCategory.name AS category, SUM(r.amount) AS total
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.UNIVERSITY
+            GROUP BY r.esgCategory.name
+            """)
+    List<CategorySumProjection> findTotalAmountByCategory();
+
+    @Query("""
+            SELECT SUM(r.amount)
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.USER AND r.scopeId = :userId
+            """)
+    BigDecimal findTotalAmountByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT
+                SUM(r.amount) AS totalAmount,
+                SUM(CASE WHEN r.rollupDate >= :monthStart THEN r.amount ELSE 0 END) AS monthlyAmount,
+                COUNT(DISTINCT r.esgCategory.id) AS categoryCnt
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.USER AND r.scopeId = :userId
+            """)
+    SummaryProjection findDonationSummaryByUserId(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
+
+    @Query("""
+            SELECT SUM(r.amount)
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.UNIVERSITY AND r.scopeId = :universityId
+            """)
+    BigDecimal findTotalAmountByUniversityId(@Param("universityId") Long universityId);
+
+    // 합계가 amount 보다 큰 학교 id (학교 순위 = 개수 + 1, 동점은 같은 순위)
+    @Query("""
+            SELECT r.scopeId
+            FROM DonationDailyRollup r
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.UNIVERSITY
+            GROUP BY r.scopeId
+            HAVING SUM(r.amount) > :amount
+            """)
+    List<Long> findUniversityIdsWithTotalGreaterThan(@Param("amount") BigDecimal amount);
+
+    // ---- 랭킹 재구성 (기부내역 대신 학교/학과 단위 행을 합산) ----
+
+    // [학교명, 합계]
+    @Query("""
+            SELECT un.name, SUM(r.amount)
+            FROM DonationDailyRollup r, University un
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.UNIVERSITY AND un.id = r.scopeId
+            GROUP BY un.name
+            """)
+    List<Object[]> sumByUniversity();
+
+    // [학교 id, 학과명, 합계] — 전체 학과 랭킹을 한 번에 (학교마다 따로 조회하지 않음)
+    @Query("""
+            SELECT dep.university.id, dep.name, SUM(r.amount)
+            FROM DonationDailyRollup r, Department dep
+            WHERE r.scopeType = com.ssafy.tiggle.entity.DonationRollupScope.DEPARTMENT AND dep.id = r.scopeId
+            GROUP BY dep.university.id, dep.name
+            """)
+    List<Object[]> sumByUniversityAndDepartment();
+
+    // ---- 재구성 (기부내역 전체에서 다시 집계) ----
+
+    @Modifying
+    @Query(value = "DELETE FROM donation_daily_rollup", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO donation_daily_rollup (rollup_date, scope_type, scope_id, esg_category_id, amount, donation_count)
+            SELECT DATE(d.donated_at), 'USER', d.user_id, d.esg_category_id, SUM(d.amount), COUNT(*)
+            FROM donation_history d
+            GROUP BY DATE(d.donated_at), d.user_id, d.esg_category_id
+            """, nativeQuery = true)
+    int rebuildUserRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO donation_daily_rollup (rollup_date, scope_type, scope_id, esg_category_id, amount, donation_count)
+            SELECT DATE(d.donated_at), 'DEPARTMENT', u.department_id, d.esg_category_id, SUM(d.amount), COUNT(*)
+            FROM donation_history d
+            JOIN users u ON u.id = d.user_id
+            GROUP BY DATE(d.donated_at), u.department_id, d.esg_category_id
+            """, nativeQuery = true)
+    int rebuildDepartmentRows();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO donation_daily_rollup (rollup_date, scope_type, scope_id, esg_category_id, amount, donation_count)
+            SELECT DATE(d.donated_at), 'UNIVERSITY', u.university_id, d.esg_category_id, SUM(d.amount), COUNT(*)
+            FROM donation_history d
+            JOIN users u ON u.id = d.user_id
+            GROUP BY DATE(d.donated_at), u.university_id, d.esg_category_id
+            """, nativeQuery = true)
+    int rebuildUniversityRows();
+}
@@ -0,0 +1,54 @@
+package com.ssafy.tiggle.repository.jobrun;
+
+import com.ssafy.tiggle.entity.JobRunItem;
+import com.ssafy.tiggle.entity.JobRunItemStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface JobRunItemRepository extends JpaRepository<JobRunItem, Long> {
+
+    Optional<JobRunItem> findByJobRunIdAndItemKey(Long jobRunId, String itemKey);
+
+    /** 다시 처리할 필요 없는(DONE/SKIPPED) 항목 키 */
+    @Query("""
+       select i.itemKey from JobRunItem i
+        where i.jobRunId = :jobRunId
+          and i.itemKey in :itemKeys
+          and i.status <> com.ssafy.tiggle.entity.JobRunItemStatus.FAILED
+    """)
+    List<String> findFinishedKeys(@Param("jobRunId") Long jobRunId, @Param("itemKeys") Collection<String> itemKeys);
+
+    @Query("""
+       select i.itemKey from JobRunItem i
+        where i.jobRunId = :jobRunId
+          and i.itemKey in :itemKeys
+          and i.status = com.ssafy.tiggle.entity.JobRunItemStatus.FAILED
+    """)
+    List<String> findFailedKeys(@Param("jobRunId") Long jobRunId, @Param("itemKeys") Collection<String> itemKeys);
+
+    boolean existsByJobRunIdAndStatus(Long jobRunId, JobRunItemStatus status);
+
+    /** DONE 항목의 금액: [itemKey, amount] */
+    @Query("""
+       select i.itemKey, i.amount from JobRunItem i
+        where i.jobRunId = :jobRunId
+          and i.itemKey in :itemKeys
+          and i.status = com.ssafy.tiggle.entity.JobRunItemStatus.DONE
+    """)
+    List<Object[]> findDoneAmounts(@Param("jobRunId") Long jobRunId, @Param("itemKeys") Collection<String> itemKeys);
+
+    /** 그룹별 DONE 금액 합계: [groupKey, sum] */
+    @Query("""
+       select i.groupKey, sum(i.amount) from JobRunItem i
+        where i.jobRunId = :jobRunId
+          and i.status = com.ssafy.tiggle.entity.JobRunItemStatus.DONE
+          and i.groupKey is not null
+        group by i.groupKey
+    """)
+    List<Object[]> sumDoneByGroup(@Param("jobRunId") Long jobRunId);
+}
@@ -0,0 +1,15 @@
+package com.ssafy.tiggle.repository.jobrun;
+
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    Optional<JobRun> findByJobNameAndRunKeyAndScope(String jobName, String runKey, String scope);
+
+    List<JobRun> findByJobNameAndRunKeyAndStatusNot(String jobName, String runKey, JobRunStatus status);
+}
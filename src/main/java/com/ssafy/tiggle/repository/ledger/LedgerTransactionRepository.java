@@ -0,0 +1,64 @@
+package com.ssafy.tiggle.repository.ledger;
+
+import com.ssafy.tiggle.entity.LedgerTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LedgerTransactionRepository extends JpaRepository<LedgerTransaction, Long> {
+
+    // 같은 거래를 여러 번 받아와도 (account_no, transaction_unique_no) 유니크로 한 번만 저장
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO ledger_transaction
+            (account_no, transaction_unique_no, transacted_at, transaction_date, transaction_time,
+             transaction_type, transaction_type_name, transaction_account_no,
+             amount, after_balance, summary, memo, created_at)
+        VALUES
+            (:#{#t.accountNo}, :#{#t.transactionUniqueNo}, :#{#t.transactedAt}, :#{#t.transactionDate}, :#{#t.transactionTime},
+             :#{#t.transactionType}, :#{#t.transactionTypeName}, :#{#t.transactionAccountNo},
+             :#{#t.amount}, :#{#t.afterBalance}, :#{#t.summary}, :#{#t.memo}, CURRENT_TIMESTAMP)
+        """, nativeQuery = true)
+    int insertIgnore(@Param("t") LedgerTransaction t);
+
+    @Query("""
+        select t from LedgerTransaction t
+         where t.accountNo = :accountNo
+           and t.transactedAt >= :from and t.transactedAt < :to
+         order by t.transactedAt asc, t.id asc
+    """)
+    List<LedgerTransaction> findRangeAsc(@Param("accountNo") String accountNo,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    @Query("""
+        select t from LedgerTransaction t
+         where t.accountNo = :accountNo
+           and t.transactedAt >= :from and t.transactedAt < :to
+         order by t.transactedAt desc, t.id desc
+    """)
+    List<LedgerTransaction> findRangeDesc(@Param("accountNo") String accountNo,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    // 계좌 원장에서 afterId 이후에 들어온 거래 (잔돈 저축 커서용, 삽입 순서)
+    @Query("""
+        select t from LedgerTransaction t
+         where t.accountNo = :accountNo
+           and t.id > :afterId
+         order by t.id asc
+    """)
+    List<LedgerTransaction> findAfterId(@Param("accountNo") String accountNo,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("select coalesce(max(t.id), 0) from LedgerTransaction t where t.accountNo = :accountNo")
+    Long findMaxId(@Param("accountNo") String accountNo);
+}
@@ -0,0 +1,38 @@
+package com.ssafy.tiggle.repository.ledger;
+
+import com.ssafy.tiggle.entity.LedgerWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface LedgerWatermarkRepository extends JpaRepository<LedgerWatermark, String> {
+
+    // 구간은 넓히기만 하고(단조 증가), syncedAt 이 null 이면(과거 구간 백필) 마지막 동기화 시각 유지
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO ledger_watermark (account_no, owner_key_hash, covered_from, synced_through, last_synced_at)
+        VALUES (:accountNo, :ownerKeyHash, :coveredFrom, :syncedThrough, :syncedAt)
+        ON DUPLICATE KEY UPDATE
+            owner_key_hash = VALUES(owner_key_hash),
+            covered_from   = LEAST(covered_from, VALUES(covered_from)),
+            synced_through = GREATEST(synced_through, VALUES(synced_through)),
+            last_synced_at = COALESCE(VALUES(last_synced_at), last_synced_at)
+        """, nativeQuery = true)
+    int upsert(@Param("accountNo") String accountNo,
+               @Param("ownerKeyHash") String ownerKeyHash,
+               @Param("coveredFrom") LocalDate coveredFrom,
+               @Param("syncedThrough") LocalDate syncedThrough,
+               @Param("syncedAt") LocalDateTime syncedAt);
+
+    // 이체 등으로 거래가 생긴 계좌: 이 시각 이전에 시작된 동기화는 최신이 아님
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update LedgerWatermark w set w.invalidatedAt = :at where w.accountNo in :accountNos")
+    int markInvalidated(@Param("accountNos") Collection<String> accountNos, @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,77 @@
+package com.ssafy.tiggle.repository.outbox;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TransferOutboxRepository extends JpaRepository<TransferOutbox, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    List<TransferOutbox> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    /** 실행 대상: 재시도 시각이 된 PENDING + 선점이 만료된 IN_PROGRESS */
+    @Query("""
+       select o.id from TransferOutbox o
+        where (o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.PENDING and o.nextAttemptAt <= :now)
+           or (o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS and o.lockedUntil < :now)
+        order by o.nextAttemptAt asc
+    """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** 조건부 선점 — 1 이면 이번 워커가 실행권을 가짐 */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    update TransferOutbox o
+       set o.status      = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS,
+           o.attempts    = o.attempts + 1,
+           o.lockedUntil = :lockedUntil
+     where o.id = :id
+       and ((o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.PENDING and o.nextAttemptAt <= :now)
+         or (o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS and o.lockedUntil < :now))
+    """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    update TransferOutbox o
+       set o.status      = com.ssafy.tiggle.entity.TransferOutboxStatus.SUCCEEDED,
+           o.completedAt = :now,
+           o.lockedUntil = null,
+           o.lastError   = null
+     where o.id = :id
+       and o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS
+    """)
+    int markSucceeded(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    update TransferOutbox o
+       set o.status        = com.ssafy.tiggle.entity.TransferOutboxStatus.PENDING,
+           o.nextAttemptAt = :nextAttemptAt,
+           o.lockedUntil   = null,
+           o.lastError     = :lastError
+     where o.id = :id
+       and o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS
+    """)
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    update TransferOutbox o
+       set o.status      = com.ssafy.tiggle.entity.TransferOutboxStatus.FAILED,
+           o.completedAt = :now,
+           o.lockedUntil = null,
+           o.lastError   = :lastError
+     where o.id = :id
+       and o.status = com.ssafy.tiggle.entity.TransferOutboxStatus.IN_PROGRESS
+    """)
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lastError") String lastError);
+}
@@ -1,6 +1,8 @@
 package com.ssafy.tiggle.repository.piggybank;
 
 import com.ssafy.tiggle.entity.PiggyBank;
+import com.ssafy.tiggle.repository.piggybank.projection.AutoSavingTargetProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -25,6 +27,49 @@ public interface PiggyBankRepository extends JpaRepository<PiggyBank, Long> {
 
     List<PiggyBank> findAllByAutoSavingTrue();
 
+    long countByAutoSavingTrue();
+
+    // 주간 자동저축 대상 (엔티티 대신 필요한 값만 — 병렬 처리 중 지연 로딩 없음), id keyset 페이지
+    // partitions 개로 나눈 해시 파티션 중 partition 번째만 (노드별 분할 처리)
+    @Query("""
+       select p.id as piggyId, p.accountNo as piggyAccountNo,
+              o.id as ownerId, o.primaryAccountNo as primaryAccountNo, o.userKey as userKey
+         from PiggyBank p
+         join p.owner o
+        where p.autoSaving = true
+          and mod(p.id, :partitions) = :partition
+          and p.id > :afterId
+        order by p.id
+    """)
+    List<AutoSavingTargetProjection> findAutoSavingTargetsAfter(@Param("partition") int partition,
+                                                                @Param("partitions") int partitions,
+                                                                @Param("afterId") Long afterId,
+                                                                Pageable pageable);
+
+    // 잔돈 저축: 한 유저의 자동저축 대상 정보 (자동저축을 끄면 비어 있음)
+    @Query("""
+       select p.id as piggyId, p.accountNo as piggyAccountNo,
+              o.id as ownerId, o.primaryAccountNo as primaryAccountNo, o.userKey as userKey
+         from PiggyBank p
+         join p.owner o
+        where p.autoSaving = true
+          and o.id = :ownerId
+    """)
+    Optional<AutoSavingTargetProjection> findAutoSavingTargetByOwnerId(@Param("ownerId") Long ownerId);
+
+    // 잔돈 저축: 자동저축을 켰지만 아직 추적 커서가 없는 유저
+    @Query("""
+       select p.id as piggyId, p.accountNo as piggyAccountNo,
+              o.id as ownerId, o.primaryAccountNo as primaryAccountNo, o.userKey as userKey
+         from PiggyBank p
+         join p.owner o
+        where p.autoSaving = true
+          and o.primaryAccountNo is not null
+          and not exists (select 1 from RoundUpCursor c where c.userId = o.id)
+        order by p.id
+    """)
+    List<AutoSavingTargetProjection> findAutoSavingTargetsWithoutRoundUpCursor(Pageable pageable);
+
     @EntityGraph(attributePaths = {"owner", "owner.university", "esgCategory"})
     List<PiggyBank> findAllByAutoDonationTrue();
 
@@ -39,6 +84,29 @@ public interface PiggyBankRepository extends JpaRepository<PiggyBank, Long> {
     """)
     int applyDonation(@Param("piggyId") Long piggyId, @Param("amount") BigDecimal amount);
 
+    // 기부 준비 완료 저금통이 있는 대학
+    @Query("""
+       select distinct o.university.id from PiggyBank p
+         join p.owner o
+        where p.autoDonation = true
+          and o.donationReady = true
+          and p.accountNo is not null and p.accountNo <> ''
+          and p.currentAmount >= p.targetAmount
+    """)
+    List<Long> findUniversityIdsReadyToDonate();
+
+    // 기부 준비 완료 저금통 수 (진행률 계산용)
+    @Query("""
+       select count(p) from PiggyBank p
+         join p.owner o
+        where p.autoDonation = true
+          and o.donationReady = true
+          and p.accountNo is not null and p.accountNo <> ''
+          and p.currentAmount >= p.targetAmount
+    """)
+    long countReadyToDonate();
+
+    // 대학별 기부 준비 완료 저금통, id keyset 페이지
     @EntityGraph(attributePaths = {"owner", "owner.university", "esgCategory"})
     @Query("""
        select p from PiggyBank p
@@ -47,6 +115,11 @@ public interface PiggyBankRepository extends JpaRepository<PiggyBank, Long> {
           and o.donationReady = true
           and p.accountNo is not null and p.accountNo <> ''
           and p.currentAmount >= p.targetAmount
+          and o.university.id = :universityId
+          and p.id > :afterId
+        order by p.id
     """)
-    List<PiggyBank> findAllReadyToDonate();
+    List<PiggyBank> findReadyToDonateAfter(@Param("universityId") Long universityId,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
 }
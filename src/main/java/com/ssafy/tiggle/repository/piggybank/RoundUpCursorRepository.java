@@ -0,0 +1,31 @@
+package com.ssafy.tiggle.repository.piggybank;
+
+import com.ssafy.tiggle.entity.RoundUpCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoundUpCursorRepository extends JpaRepository<RoundUpCursor, Long> {
+
+    @Query("""
+       select c.userId from RoundUpCursor c
+        where c.nextPollAt <= :now
+        order by c.nextPollAt asc
+    """)
+    List<Long> findDueUserIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** 조건부 선점 — 1 이면 이번 노드가 조회권을 가짐 (lease 동안 다른 노드는 건너뜀, 죽으면 lease 후 재시도) */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+    update RoundUpCursor c
+       set c.nextPollAt = :leaseUntil
+     where c.userId = :userId
+       and c.nextPollAt <= :now
+    """)
+    int claim(@Param("userId") Long userId, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
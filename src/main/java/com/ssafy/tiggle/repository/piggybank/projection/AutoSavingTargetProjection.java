@@ -0,0 +1,9 @@
+package com.ssafy.tiggle.repository.piggybank.projection;
+
+public interface AutoSavingTargetProjection {
+    Long getPiggyId();
+    String getPiggyAccountNo();
+    Long getOwnerId();
+    String getPrimaryAccountNo();
+    String getUserKey();
+}
@@ -23,6 +23,9 @@ public interface StudentRepository extends JpaRepository<Users, Long> {
     @Query("select u from Users u join fetch u.university where u.id = :id")
     Optional<Users> findByIdWithUniversity(@Param("id") Long id);
 
+    @Query("select u from Users u join fetch u.university join fetch u.department where u.id = :id")
+    Optional<Users> findByIdWithUniversityAndDepartment(@Param("id") Long id);
+
     @Query("""
            select u.userKey as userKey, u.primaryAccountNo as primaryAccountNo
              from Users u
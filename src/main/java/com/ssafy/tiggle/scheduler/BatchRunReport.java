@@ -0,0 +1,93 @@
+package com.ssafy.tiggle.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 배치 작업 1회 실행 결과. 병렬 처리 중 여러 스레드가 동시에 누적한다.
+ * - processed: 실제로 처리(이체 등)한 건수 / amount: 처리 금액 합계
+ * - skipped: 대상이 아니거나 이미 처리된 건수 / failed: 오류로 실패한 건수
+ * - expected: 예상 대상 건수 (알 수 있을 때만, 진행률/ETA 계산용)
+ */
+public class BatchRunReport {
+
+    private final String job;
+    private final LocalDateTime startedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    private final long startedNanos = System.nanoTime();
+    private volatile long finishedNanos;
+    private volatile long expected;
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder amount = new LongAdder();
+
+    public BatchRunReport(String job) {
+        this.job = job;
+    }
+
+    public void processed(long amount) {
+        processed.increment();
+        this.amount.add(amount);
+    }
+
+    public void skipped() {
+        skipped.increment();
+    }
+
+    public void failed() {
+        failed.increment();
+    }
+
+    public void expect(long expected) {
+        this.expected = expected;
+    }
+
+    public BatchRunReport finish() {
+        finishedNanos = System.nanoTime();
+        return this;
+    }
+
+    public String getJob() { return job; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public long getProcessed() { return processed.sum(); }
+    public long getSkipped() { return skipped.sum(); }
+    public long getFailed() { return failed.sum(); }
+    public long getAmount() { return amount.sum(); }
+    public long getTotal() { return getProcessed() + getSkipped() + getFailed(); }
+    public long getExpected() { return expected; }
+    public boolean isFinished() { return finishedNanos != 0; }
+
+    /** 시작 이후 평균 처리 속도 (건/초) */
+    public double getItemsPerSecond() {
+        double sec = getDuration().toNanos() / 1_000_000_000.0;
+        return sec <= 0 ? 0 : getTotal() / sec;
+    }
+
+    /** 남은 예상 시간. 예상 건수를 모르거나 아직 속도가 없으면 null */
+    public Duration getEta() {
+        if (isFinished()) return Duration.ZERO;
+        double rate = getItemsPerSecond();
+        long remaining = expected - getTotal();
+        if (expected <= 0 || rate <= 0) return null;
+        return Duration.ofSeconds((long) Math.ceil(Math.max(0, remaining) / rate));
+    }
+
+    /** 종료 전에는 현재까지 경과 시간 */
+    public Duration getDuration() {
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return Duration.ofNanos(end - startedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "job=" + job
+                + ", processed=" + getProcessed()
+                + ", skipped=" + getSkipped()
+                + ", failed=" + getFailed()
+                + ", amount=" + getAmount()
+                + ", durationMs=" + getDuration().toMillis();
+    }
+}
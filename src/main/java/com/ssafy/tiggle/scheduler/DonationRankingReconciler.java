@@ -0,0 +1,35 @@
+package com.ssafy.tiggle.scheduler;
+
+import com.ssafy.tiggle.service.donation.DonationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기부 랭킹 정합성 점검. 랭킹은 기부할 때마다 ZINCRBY 로 바로 반영되고,
+ * 이 작업은 Redis 장애/재시작 등으로 어긋난 항목을 주기적으로 일별 집계(donation_daily_rollup) 합계로 보정한다 (빈 캐시도 채움).
+ * 점검 중에 들어온 증분은 덮어쓰지 않는다 ({@link com.ssafy.tiggle.service.donation.DonationRankingStore}).
+ * 기부내역 전체를 GROUP BY 하지 않으므로 기부내역이 쌓여도 비용은 (날짜 × 학교/학과 × 테마) 행 수에 비례한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationRankingReconciler {
+
+    private static final String JOB_NAME = "donation-ranking-reconcile";
+
+    private final DonationService donationService;
+    private final JobLeaseManager jobLeaseManager;
+
+    // 기동 직후 한 번 (캐시가 비어 있으면 채움), 이후 주기적으로
+    @Scheduled(initialDelayString = "${donation.ranking.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${donation.ranking.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        jobLeaseManager.runExclusive(JOB_NAME, () -> {
+            long started = System.currentTimeMillis();
+            int entries = donationService.reconcileRankingCache();
+            log.info("[DonationRanking] rankings reconciled: {} entries fixed ({}ms)", entries, System.currentTimeMillis() - started);
+        });
+    }
+}
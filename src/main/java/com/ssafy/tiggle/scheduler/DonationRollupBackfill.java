@@ -0,0 +1,66 @@
+package com.ssafy.tiggle.scheduler;
+
+import com.ssafy.tiggle.entity.DonationHistory;
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunStatus;
+import com.ssafy.tiggle.repository.donation.DonationHistoryRepository;
+import com.ssafy.tiggle.service.donation.DonationHistoryWriter;
+import com.ssafy.tiggle.service.jobrun.JobRunService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 기부 집계 표를 기부내역 전체에서 다시 만드는 일회성 마이그레이션.
+ * 표가 비었는지로 판단하지 않고 job_run 에 버전별 완료 마커를 남긴다 — 기동 전에 들어온 기부로
+ * 집계 행이 생겨도 재구성이 빠지지 않고, 완료된 버전은 다시 돌지 않는다.
+ * 재구성은 한 트랜잭션에서 지우고 다시 채우므로 언제 돌려도 그 시점 기부내역과 일치한다.
+ * 집계를 쓰지 않는 구버전 노드가 섞인 롤링 배포 뒤에는 donation.rollup.backfill-version 을 올려 한 번 더 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationRollupBackfill {
+
+    private static final String JOB_NAME = "donation-rollup-backfill";
+    private static final String SCOPE = "all";
+
+    private final DonationHistoryRepository donationHistoryRepository;
+    private final DonationHistoryWriter donationHistoryWriter;
+    private final JobRunService jobRunService;
+    private final JobLeaseManager jobLeaseManager;
+
+    @Value("${donation.rollup.backfill-version:1}")
+    private String backfillVersion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            // 여러 인스턴스 중 리스를 잡은 한 곳에서만 (나머지는 다음 기동 때 마커를 보고 건너뜀)
+            jobLeaseManager.runExclusive(JOB_NAME, this::rebuildIfPending);
+        } catch (RuntimeException e) {
+            // 기동은 계속 (마커가 남지 않았으므로 다음 기동 때 다시 시도)
+            log.warn("[DonationRollup] backfill failed: {}", e.toString(), e);
+        }
+    }
+
+    private void rebuildIfPending() {
+        JobRun run = jobRunService.start(JOB_NAME, "v" + backfillVersion, SCOPE);
+        if (run.getStatus() == JobRunStatus.COMPLETED) return;
+
+        try {
+            // 재구성 시점의 마지막 기부 id 를 마커에 남김 (운영 확인용)
+            long watermark = donationHistoryRepository.findTopByOrderByIdDesc().map(DonationHistory::getId).orElse(0L);
+            log.info("[DonationRollup] backfill v{} — rebuilding from donation_history (last id={})", backfillVersion, watermark);
+            donationHistoryWriter.rebuildRollups();
+            jobRunService.checkpoint(run.getId(), watermark);
+            jobRunService.complete(run.getId());
+        } catch (RuntimeException e) {
+            jobRunService.fail(run.getId(), e.toString());
+            throw e;
+        }
+    }
+}
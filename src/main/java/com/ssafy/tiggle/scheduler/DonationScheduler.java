@@ -1,5 +1,6 @@
 package com.ssafy.tiggle.scheduler;
 
+import com.ssafy.tiggle.dto.donation.response.DonationTransferReport;
 import com.ssafy.tiggle.exception.GlobalExceptionHandler;
 import com.ssafy.tiggle.service.donation.DonationService;
 import org.slf4j.Logger;
@@ -11,17 +12,34 @@ import org.springframework.stereotype.Component;
 public class DonationScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String JOB_NAME = "weekly-theme-donation";
     private final DonationService donationService;
+    private final JobLeaseManager jobLeaseManager;
 
-    public DonationScheduler(DonationService donationService) {
+    public DonationScheduler(DonationService donationService, JobLeaseManager jobLeaseManager) {
         this.donationService = donationService;
+        this.jobLeaseManager = jobLeaseManager;
     }
 
     // 매주 일요일 20시 실행
     @Scheduled(cron = "0 0 6 * * MON")
     public void runWeeklyDonation() {
-        logger.info("학교 -> 단체 기부 스케줄러");
-        donationService.transferDonations();
-        donationService.updateRankingCache();
+        runExclusive(new BatchRunReport(JOB_NAME));
     }
-}
\ No newline at end of file
+
+    /** 여러 인스턴스 중 리스를 잡은 한 곳에서만 실행. @return 다른 인스턴스가 실행 중이면 false */
+    public boolean runExclusive(BatchRunReport progress) {
+        return jobLeaseManager.runExclusive(JOB_NAME, () -> run(false, progress));
+    }
+
+    /** @param dryRun true 면 단체별 배분 계획만 계산 (이체 등록 없음) */
+    public DonationTransferReport run(boolean dryRun, BatchRunReport progress) {
+        logger.info("학교 -> 단체 기부 스케줄러 (dryRun={})", dryRun);
+        DonationTransferReport report = donationService.transferDonations(dryRun, progress).block();
+        if (report != null) {
+            logger.info("학교 -> 단체 기부 결과: week={}, completed={}, succeeded={}, failed={}, pending={}, amount={}",
+                    report.week(), report.completed(), report.succeeded(), report.failed(), report.pending(), report.totalAmount());
+        }
+        return report;
+    }
+}
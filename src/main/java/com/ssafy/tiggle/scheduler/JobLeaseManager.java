@@ -0,0 +1,160 @@
+package com.ssafy.tiggle.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 인스턴스에서 같은 @Scheduled 작업이 동시에 돌지 않도록 Redis 리스(SET NX PX + 소유 토큰)로 보호한다.
+ * - 리스는 ttl/3 주기로 연장되며, 프로세스가 죽으면 ttl 후 자동 해제된다.
+ * - 파티션 실행: 대상을 해시 파티션으로 나누고 파티션마다 리스를 잡아, 여러 노드가 한 회차를 나눠 처리한다.
+ *   끝난 파티션은 회차(runKey)별 완료 표시를 남겨 다른 노드가 다시 처리하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLeaseManager {
+
+    private final StringRedisTemplate redis;
+
+    @Value("${scheduler.lease.ttl-seconds:120}")
+    private long ttlSeconds;
+
+    // 파티션 완료 표시 보관 시간 (같은 회차 재실행 방지)
+    @Value("${scheduler.lease.done-ttl-hours:36}")
+    private long doneTtlHours;
+
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "job-lease-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private String leaseKey(String name) { return "job:lease:" + name; }
+    private String doneKey(String job, String runKey, int partition) { return "job:done:" + job + ":" + runKey + ":p" + partition; }
+
+    /** 리스를 잡은 노드에서만 task 실행. 다른 노드가 실행 중이면 false */
+    public boolean runExclusive(String job, Runnable task) {
+        Lease lease = tryAcquire(job);
+        if (lease == null) {
+            log.info("[JobLease] {} is running on another node — skip", job);
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            lease.release();
+        }
+    }
+
+    /**
+     * 파티션 0..partitions-1 중 아직 끝나지 않았고 다른 노드가 잡지 않은 파티션을 골라 task 실행.
+     * 노드마다 시작 파티션을 섞어 같은 파티션으로 몰리지 않게 한다.
+     *
+     * @param runKey 회차 식별자 (예: 주간 작업은 해당 주 월요일 yyyyMMdd)
+     * @return 이 노드가 처리한 파티션 수
+     */
+    public int runPartitioned(String job, String runKey, int partitions, IntConsumer task) {
+        int n = Math.max(1, partitions);
+        List<Integer> order = new ArrayList<>(IntStream.range(0, n).boxed().toList());
+        Collections.shuffle(order);
+
+        int processed = 0;
+        for (int partition : order) {
+            if (Boolean.TRUE.equals(redis.hasKey(doneKey(job, runKey, partition)))) continue;
+
+            Lease lease = tryAcquire(job + ":" + runKey + ":p" + partition);
+            if (lease == null) continue; // 다른 노드가 처리 중
+
+            try {
+                // 리스를 잡는 사이 다른 노드가 끝냈을 수 있음
+                if (Boolean.TRUE.equals(redis.hasKey(doneKey(job, runKey, partition)))) continue;
+
+                log.info("[JobLease] {} run={} partition {}/{} start", job, runKey, partition, n);
+                task.accept(partition);
+                redis.opsForValue().set(doneKey(job, runKey, partition), "1", Duration.ofHours(doneTtlHours));
+                processed++;
+            } catch (RuntimeException e) {
+                // 완료 표시를 남기지 않으므로 다음 실행(또는 다른 노드)이 다시 처리
+                log.warn("[JobLease] {} run={} partition {} failed: {}", job, runKey, partition, e.toString(), e);
+            } finally {
+                lease.release();
+            }
+        }
+        return processed;
+    }
+
+    private Lease tryAcquire(String name) {
+        String key = leaseKey(name);
+        String token = UUID.randomUUID().toString();
+        Boolean ok = redis.opsForValue().setIfAbsent(key, token, Duration.ofSeconds(ttlSeconds));
+        if (!Boolean.TRUE.equals(ok)) return null;
+
+        long periodMs = Math.max(1000, ttlSeconds * 1000 / 3);
+        Lease lease = new Lease(key, token);
+        lease.renewal = heartbeat.scheduleAtFixedRate(lease::renew, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        return lease;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    private final class Lease {
+        private final String key;
+        private final String token;
+        private volatile ScheduledFuture<?> renewal;
+
+        private Lease(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        void renew() {
+            try {
+                Long ok = redis.execute(RENEW, List.of(key), token, String.valueOf(ttlSeconds * 1000));
+                if (ok == null || ok == 0) {
+                    log.warn("[JobLease] lease lost key={}", key);
+                    renewal.cancel(false);
+                }
+            } catch (Exception e) {
+                log.warn("[JobLease] renew failed key={}, msg={}", key, e.getMessage());
+            }
+        }
+
+        void release() {
+            if (renewal != null) renewal.cancel(false);
+            try {
+                redis.execute(RELEASE, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("[JobLease] release failed key={}, msg={}", key, e.getMessage());
+            }
+        }
+    }
+}
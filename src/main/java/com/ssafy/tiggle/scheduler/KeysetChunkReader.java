@@ -0,0 +1,63 @@
+package com.ssafy.tiggle.scheduler;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 배치 대상 테이블을 id 기준 keyset 페이지로 나눠 읽는다 (where id > :afterId order by id limit N).
+ * 청크마다 짧은 읽기 전용 트랜잭션을 쓰고 끝나면 영속성 컨텍스트를 비우므로,
+ * 대상이 많아도 힙/더티체킹 비용이 청크 크기만큼만 든다. 처리(handler)는 트랜잭션 밖에서 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetChunkReader {
+
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    @Value("${batch.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * @param startAfterId 이 id 다음부터 읽음 (처음부터면 0, 재개 시 체크포인트)
+     * @param fetch        (afterId, 페이지) → 다음 청크. id 오름차순이어야 한다
+     * @param idOf         원소의 keyset id
+     * @param handler      청크 단위 처리
+     * @return 읽은 전체 건수
+     */
+    public <T> long forEachChunk(long startAfterId, BiFunction<Long, Pageable, List<T>> fetch, Function<T, Long> idOf,
+                                 Consumer<List<T>> handler) {
+        long total = 0;
+        long afterId = startAfterId;
+        while (true) {
+            List<T> chunk = read(fetch, afterId);
+            if (chunk.isEmpty()) return total;
+
+            handler.accept(chunk);
+            total += chunk.size();
+            if (chunk.size() < chunkSize) return total;
+            afterId = idOf.apply(chunk.get(chunk.size() - 1));
+        }
+    }
+
+    private <T> List<T> read(BiFunction<Long, Pageable, List<T>> fetch, long afterId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> {
+            List<T> chunk = fetch.apply(afterId, PageRequest.of(0, chunkSize));
+            entityManager.clear(); // 이 청크의 엔티티는 분리 상태로 넘김
+            return chunk;
+        });
+    }
+}
@@ -0,0 +1,166 @@
+package com.ssafy.tiggle.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 주간 배치를 정각에 한꺼번에 돌리지 않고 시간 창(window) 안에 고르게 나눠 실행한다.
+ * - 창을 slots 개 구간으로 나누고, 대상 id 를 {@link #bucketOf} 로 구간에 고정 배정한다 (매주 같은 유저는 같은 구간).
+ * - 구간 시작 시각이 되면 해당 구간 대상만 처리한다. 앞 구간이 늦게 끝나면 기다리지 않고 바로 이어서 따라잡는다.
+ * - 마지막 구간은 창 끝에서 한 구간 길이만큼 앞에서 시작하므로 밀리지 않으면 창 안에 끝난다.
+ * - 창은 회차의 예정 시작 시각에 고정한다 ({@link #windowStart}). 재실행하면 이미 지난 구간은 기다리지 않고 바로 처리한다.
+ *   구간별 지연(lag)과 창 초과 시간은 리포트와 batch.spread.slot.lag 지표로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadSpreadWindow {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 해시 파티션과 구간을 한 번에 고르는 버킷 번호. mod(id, partitions * slots) == bucket 이면
+     * mod(id, partitions) == partition 도 성립하므로, 기존 파티션 조회에 (버킷, 버킷 수) 를 그대로 넘기면 된다.
+     */
+    public static int bucketOf(int partition, int partitions, int slot) {
+        return partition + partitions * slot;
+    }
+
+    /**
+     * 회차의 창 시작 시각: 그 주 월요일의 예정 시작 시각 (지금보다 늦으면 지금).
+     * 실패한 주를 다시 돌릴 때 창을 새로 열지 않으므로, 지난 구간은 바로 처리하고 남은 구간만 원래 일정대로 기다린다.
+     */
+    public static ZonedDateTime windowStart(LocalDate weekMon, LocalTime scheduledAt) {
+        ZonedDateTime now = ZonedDateTime.now(KST).truncatedTo(ChronoUnit.MINUTES);
+        ZonedDateTime scheduled = weekMon.atTime(scheduledAt).atZone(KST);
+        return scheduled.isAfter(now) ? now : scheduled;
+    }
+
+    /** @param task 구간 번호(0..slots-1)를 받아 그 구간 대상을 처리. 예외는 해당 구간만 실패로 기록하고 다음 구간 진행 */
+    public Report run(String job, ZonedDateTime windowStart, Duration window, int slots, IntConsumer task) {
+        int n = Math.max(1, slots);
+        Duration slotLength = window.dividedBy(n);
+        Report report = new Report(job, windowStart, windowStart.plus(window), n);
+        log.info("[LoadSpread] {} window {} ~ {} ({} slots, {} each)", job, report.windowStart, report.windowEnd, n, slotLength);
+
+        for (int slot = 0; slot < n; slot++) {
+            ZonedDateTime due = windowStart.plus(slotLength.multipliedBy(slot));
+            if (!sleepUntil(due)) {
+                log.warn("[LoadSpread] {} interrupted before slot {}", job, slot);
+                break;
+            }
+
+            Duration lag = Duration.between(due, ZonedDateTime.now(KST));
+            report.slotStarted(lag);
+            meterRegistry.timer("batch.spread.slot.lag", "job", job).record(lag);
+            if (lag.compareTo(slotLength) > 0) {
+                log.warn("[LoadSpread] {} slot {}/{} started {}s late", job, slot, n, lag.toSeconds());
+            }
+
+            try {
+                task.accept(slot);
+            } catch (RuntimeException e) {
+                report.slotFailed();
+                log.warn("[LoadSpread] {} slot {}/{} failed: {}", job, slot, n, e.toString(), e);
+            }
+        }
+
+        report.finish();
+        if (!report.getOverrun().isZero()) {
+            log.warn("[LoadSpread] {} finished {}s after window end — {}", job, report.getOverrun().toSeconds(), report);
+        } else {
+            log.info("[LoadSpread] {} done — {}", job, report);
+        }
+        return report;
+    }
+
+    private static boolean sleepUntil(ZonedDateTime due) {
+        long waitMs = Duration.between(ZonedDateTime.now(KST), due).toMillis();
+        if (waitMs <= 0) return true;
+        try {
+            TimeUnit.MILLISECONDS.sleep(waitMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 창 실행 결과: 구간 시작 지연(lag)과 창 종료 대비 초과 시간 */
+    public static class Report {
+
+        private final String job;
+        private final ZonedDateTime windowStart;
+        private final ZonedDateTime windowEnd;
+        private final int slots;
+        private int startedSlots;
+        private int failedSlots;
+        private Duration maxLag = Duration.ZERO;
+        private Duration totalLag = Duration.ZERO;
+        private ZonedDateTime finishedAt;
+
+        Report(String job, ZonedDateTime windowStart, ZonedDateTime windowEnd, int slots) {
+            this.job = job;
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            this.slots = slots;
+        }
+
+        void slotStarted(Duration lag) {
+            startedSlots++;
+            totalLag = totalLag.plus(lag);
+            if (lag.compareTo(maxLag) > 0) maxLag = lag;
+        }
+
+        void slotFailed() {
+            failedSlots++;
+        }
+
+        void finish() {
+            finishedAt = ZonedDateTime.now(KST);
+        }
+
+        public String getJob() { return job; }
+        public ZonedDateTime getWindowStart() { return windowStart; }
+        public ZonedDateTime getWindowEnd() { return windowEnd; }
+        public int getSlots() { return slots; }
+        public int getStartedSlots() { return startedSlots; }
+        public int getFailedSlots() { return failedSlots; }
+        public Duration getMaxLag() { return maxLag; }
+        public ZonedDateTime getFinishedAt() { return finishedAt; }
+
+        public Duration getAverageLag() {
+            return startedSlots == 0 ? Duration.ZERO : totalLag.dividedBy(startedSlots);
+        }
+
+        /** 창 끝을 넘긴 시간 (창 안에 끝났으면 0) */
+        public Duration getOverrun() {
+            ZonedDateTime end = finishedAt != null ? finishedAt : ZonedDateTime.now(KST);
+            Duration d = Duration.between(windowEnd, end);
+            return d.isNegative() ? Duration.ZERO : d;
+        }
+
+        @Override
+        public String toString() {
+            return "job=" + job
+                    + ", slots=" + startedSlots + "/" + slots
+                    + ", failedSlots=" + failedSlots
+                    + ", maxLagSec=" + maxLag.toSeconds()
+                    + ", avgLagSec=" + getAverageLag().toSeconds()
+                    + ", overrunSec=" + getOverrun().toSeconds();
+        }
+    }
+}
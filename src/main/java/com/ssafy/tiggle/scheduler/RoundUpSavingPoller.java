@@ -0,0 +1,122 @@
+package com.ssafy.tiggle.scheduler;
+
+import com.ssafy.tiggle.repository.piggybank.PiggyBankRepository;
+import com.ssafy.tiggle.repository.piggybank.RoundUpCursorRepository;
+import com.ssafy.tiggle.repository.piggybank.projection.AutoSavingTargetProjection;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiPriority;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
+import com.ssafy.tiggle.service.piggybank.RoundUpWriter;
+import com.ssafy.tiggle.service.security.EncryptionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 지출이 생길 때마다 잔돈을 저금통으로 모은다 (auto-saving.mode=round-up).
+ * 유저별 커서의 다음 조회 시각이 된 계좌만 원장을 워터마크부터 증분 동기화하고, 새 출금 거래의 1000원 미만 잔돈을 저축한다.
+ * 조회 간격은 계좌 활동에 따라 바뀌어 (활발하면 짧게, 휴면이면 길게) 외부 API 부하가 한 주 전체에 고르게 퍼진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoundUpSavingPoller {
+
+    private final RoundUpCursorRepository roundUpCursorRepository;
+    private final PiggyBankRepository piggyBankRepository;
+    private final TransactionLedgerService transactionLedgerService;
+    private final EncryptionService encryptionService;
+    private final RoundUpWriter roundUpWriter;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Value("${auto-saving.mode:weekly}")
+    private String mode;
+
+    // 한 번에 처리할 최대 계좌 수
+    @Value("${auto-saving.round-up.batch-size:200}")
+    private int batchSize;
+
+    @Value("${auto-saving.round-up.concurrency:8}")
+    private int concurrency;
+
+    // 선점 유지 시간 (노드가 죽으면 이 시간 뒤 다른 노드가 다시 조회)
+    @Value("${auto-saving.round-up.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${auto-saving.round-up.tick-ms:5000}")
+    public void poll() {
+        if (!"round-up".equalsIgnoreCase(mode)) return;
+
+        startNewCursors();
+
+        List<Long> due = roundUpCursorRepository.findDueUserIds(LocalDateTime.now(KST), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) return;
+
+        Flux.fromIterable(due)
+                .flatMap(userId -> Mono.fromCallable(() -> roundUpWriter.claim(userId, leaseSeconds))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .filter(claimed -> claimed)
+                                .flatMap(claimed -> pollOne(userId))
+                                .contextWrite(FinancialApiPriority.batch()), // 사용자 요청보다 후순위
+                        Math.max(1, concurrency))
+                .then()
+                .block();
+    }
+
+    /** 자동저축을 새로 켠 유저는 지금부터 추적 */
+    private void startNewCursors() {
+        List<AutoSavingTargetProjection> targets =
+                piggyBankRepository.findAutoSavingTargetsWithoutRoundUpCursor(PageRequest.of(0, batchSize));
+        for (AutoSavingTargetProjection t : targets) {
+            try {
+                roundUpWriter.startTracking(t);
+            } catch (RuntimeException e) {
+                // 다른 노드가 같은 유저 커서를 먼저 만든 경우 등
+                log.debug("[RoundUp] start tracking skipped userId={}, msg={}", t.getOwnerId(), e.getMessage());
+            }
+        }
+    }
+
+    private Mono<Long> pollOne(Long userId) {
+        return Mono.fromCallable(() -> piggyBankRepository.findAutoSavingTargetByOwnerId(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(found -> {
+                    if (found.isEmpty()) {
+                        return Mono.fromRunnable(() -> roundUpWriter.stopTracking(userId))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .then(Mono.<Long>empty());
+                    }
+                    AutoSavingTargetProjection t = found.get();
+                    if (isBlank(t.getPrimaryAccountNo()) || isBlank(t.getPiggyAccountNo()) || isBlank(t.getUserKey())) {
+                        // 계좌 연결 전 — lease 만료 후 다시 확인
+                        return Mono.<Long>empty();
+                    }
+                    String userKey = encryptionService.decrypt(t.getUserKey());
+
+                    // 원장을 최신 거래까지 맞춘 뒤 커서 이후의 새 지출만 계산
+                    return transactionLedgerService.refresh(userKey, t.getPrimaryAccountNo())
+                            .then(Mono.fromCallable(() -> roundUpWriter.advance(t, t.getUserKey()))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                })
+                .doOnNext(amount -> {
+                    if (amount > 0) log.info("[RoundUp] enqueued round-up transfer userId={}, amount={}", userId, amount);
+                })
+                .onErrorResume(e -> {
+                    // 커서는 그대로 — lease 만료 후 같은 위치부터 다시 시도
+                    log.warn("[RoundUp] poll failed userId={}, msg={}", userId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static boolean isBlank(String s) { return s == null || s.isBlank(); }
+}
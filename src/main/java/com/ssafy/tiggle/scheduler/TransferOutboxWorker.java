@@ -0,0 +1,174 @@
+package com.ssafy.tiggle.scheduler;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.repository.outbox.TransferOutboxRepository;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiPriority;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.finopenapi.TransactionHistoryFilters;
+import com.ssafy.tiggle.service.outbox.TransferOutboxWriter;
+import com.ssafy.tiggle.service.security.EncryptionService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/**
+ * transfer_outbox 를 주기적으로 비워 실제 계좌이체를 실행한다.
+ * - 전용 스레드 풀 + 세마포어로 동시 실행 수 제한
+ * - 실패 시 지수 백오프로 재시도, max-attempts 초과 시 FAILED
+ * - 두 번째 시도부터는 먼저 거래내역에서 태그를 찾아, 이전 시도가 실제로 성공했으면 다시 보내지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferOutboxWorker {
+
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final TransferOutboxWriter outboxWriter;
+    private final FinancialApiService financialApiService;
+    private final EncryptionService encryptionService;
+
+    private final ThreadPoolTaskExecutor transferOutboxExecutor;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Value("${outbox.transfer.concurrency:4}")
+    private int concurrency;
+
+    @Value("${outbox.transfer.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.transfer.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${outbox.transfer.max-backoff-seconds:600}")
+    private long maxBackoffSeconds;
+
+    // 선점 유지 시간 (이체 응답 타임아웃 + 배치 대기보다 길게)
+    @Value("${outbox.transfer.lease-seconds:180}")
+    private long leaseSeconds;
+
+    private Semaphore slots;
+
+    @PostConstruct
+    void init() {
+        slots = new Semaphore(concurrency);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.transfer.poll-interval-ms:1000}")
+    public void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) return;
+
+        List<Long> dueIds = transferOutboxRepository.findDueIds(LocalDateTime.now(KST), PageRequest.of(0, free));
+        for (Long id : dueIds) {
+            if (!slots.tryAcquire()) return;
+            try {
+                transferOutboxExecutor.execute(() -> {
+                    try {
+                        runOne(id);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                slots.release();
+                log.warn("[Outbox] submit rejected id={}, msg={}", id, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void runOne(Long id) {
+        if (!outboxWriter.claim(id, leaseSeconds)) return; // 다른 워커가 선점
+
+        TransferOutbox o = transferOutboxRepository.findById(id).orElse(null);
+        if (o == null) return;
+
+        try {
+            String userKey = encryptionService.decrypt(o.getEncryptedUserKey());
+
+            // 이전 시도의 결과를 모르는 경우(타임아웃/서버 종료 등) 먼저 거래내역으로 확인
+            if (o.getAttempts() > 1 && alreadyTransferred(o, userKey)) {
+                log.info("[Outbox] found previous transfer by tag — complete without resend (id={})", id);
+                outboxWriter.complete(o);
+                return;
+            }
+
+            String depositSummary = o.isVerifyOnDeposit() ? withTag(o.getDepositSummary(), o.getTag()) : o.getDepositSummary();
+            String withdrawalSummary = o.isVerifyOnDeposit() ? o.getWithdrawalSummary() : withTag(o.getWithdrawalSummary(), o.getTag());
+
+            var resp = financialApiService.updateDemandDepositAccountTransfer(
+                            userKey,
+                            o.getDepositAccountNo(),
+                            depositSummary,
+                            String.valueOf(o.getAmount()),
+                            o.getWithdrawalAccountNo(),
+                            withdrawalSummary)
+                    .contextWrite(FinancialApiPriority.batch())
+                    .block();
+
+            boolean ok = resp != null && resp.getHeader() != null && "H0000".equals(resp.getHeader().getResponseCode());
+            if (ok) {
+                outboxWriter.complete(o);
+                log.info("[Outbox] transfer done id={}, type={}, amount={}", id, o.getType(), o.getAmount());
+                return;
+            }
+
+            String msg = (resp == null || resp.getHeader() == null) ? "no response/header" : resp.getHeader().getResponseMessage();
+            retryOrFail(o, "transfer rejected: " + msg);
+
+        } catch (Exception e) {
+            retryOrFail(o, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private void retryOrFail(TransferOutbox o, String error) {
+        if (o.getAttempts() >= maxAttempts) {
+            log.error("[Outbox] give up id={}, type={}, attempts={}, error={}", o.getId(), o.getType(), o.getAttempts(), error);
+            outboxWriter.fail(o.getId(), error);
+            return;
+        }
+        long backoff = Math.min(maxBackoffSeconds, baseBackoffSeconds << Math.min(20, o.getAttempts() - 1));
+        log.warn("[Outbox] retry in {}s id={}, attempts={}, error={}", backoff, o.getId(), o.getAttempts(), error);
+        outboxWriter.reschedule(o.getId(), LocalDateTime.now(KST).plusSeconds(backoff), error);
+    }
+
+    /** 태그가 붙은 쪽 계좌의 거래내역(등록일~오늘)에서 태그를 찾는다 */
+    private boolean alreadyTransferred(TransferOutbox o, String userKey) {
+        String accountNo = o.isVerifyOnDeposit() ? o.getDepositAccountNo() : o.getWithdrawalAccountNo();
+        LocalDate from = Optional.ofNullable(o.getCreatedAt()).map(LocalDateTime::toLocalDate).orElse(LocalDate.now(KST));
+        String token = tagToken(o.getTag());
+
+        // 조회 실패(bankApiError 등)는 runOne 에서 재시도 처리 — 확인이 안 된 채로 다시 보내면 중복 이체 위험
+        Boolean found = financialApiService
+                .streamTransactionHistoryList(userKey, accountNo, from.format(YMD), LocalDate.now(KST).format(YMD), "A", "DESC",
+                        TransactionHistoryFilters.tagged(token))
+                .hasElements()
+                .contextWrite(FinancialApiPriority.batch())
+                .block();
+        return Boolean.TRUE.equals(found);
+    }
+
+    private static String withTag(String summary, String tag) {
+        String base = summary == null ? "" : summary;
+        return base + " " + tagToken(tag);
+    }
+
+    private static String tagToken(String tag) {
+        return "[OBX:" + tag + "]";
+    }
+}
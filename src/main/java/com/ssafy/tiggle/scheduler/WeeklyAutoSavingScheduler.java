@@ -1,18 +1,23 @@
 package com.ssafy.tiggle.scheduler;
 
-import com.ssafy.tiggle.entity.PiggyBank;
-import com.ssafy.tiggle.entity.Users;
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunItemStatus;
+import com.ssafy.tiggle.entity.JobRunStatus;
 import com.ssafy.tiggle.repository.piggybank.PiggyBankRepository;
-import com.ssafy.tiggle.repository.user.StudentRepository;
+import com.ssafy.tiggle.repository.piggybank.projection.AutoSavingTargetProjection;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiPriority;
 import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.jobrun.JobRunService;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
 import com.ssafy.tiggle.service.piggybank.PiggyBankWriterService;
 import com.ssafy.tiggle.service.security.EncryptionService;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -22,6 +27,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -32,64 +38,224 @@ public class WeeklyAutoSavingScheduler {
     private final FinancialApiService financialApiService;
     private final EncryptionService encryptionService;
     private final PiggyBankWriterService piggyBankWriterService;
+    private final TransactionLedgerService transactionLedgerService;
+    private final KeysetChunkReader chunkReader;
+    private final JobLeaseManager jobLeaseManager;
+    private final JobRunService jobRunService;
+    private final LoadSpreadWindow loadSpreadWindow;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String JOB_NAME = "weekly-auto-saving";
+    // @Scheduled cron 과 같은 시각 (분산 실행 창의 기준)
+    private static final LocalTime SCHEDULED_AT = LocalTime.of(1, 0);
     private static final DateTimeFormatter WEEK_TAG_FMT = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd (월요일 기준)
 
+    // 동시에 처리할 유저 수
+    @Value("${auto-saving.sweep.concurrency:8}")
+    private int concurrency;
+
+    // 초당 처리 시작 유저 수 상한 (유저당 외부 API 최대 3회: 거래내역/잔액/이체). 0 이하면 제한 없음
+    @Value("${auto-saving.sweep.users-per-second:5}")
+    private double usersPerSecond;
+
+    // 대상 해시 파티션 수 (여러 노드가 파티션 단위로 나눠 처리)
+    @Value("${auto-saving.sweep.partitions:4}")
+    private int partitions;
+
+    // 분산 실행: 정각에 몰아서 하지 않고 window-minutes 동안 slots 개 구간으로 나눠 유저별 고정 구간에 처리
+    @Value("${auto-saving.spread.enabled:false}")
+    private boolean spreadEnabled;
+
+    @Value("${auto-saving.spread.window-minutes:240}")
+    private long spreadWindowMinutes;
+
+    @Value("${auto-saving.spread.slots:48}")
+    private int spreadSlots;
+
+    // weekly: 매주 월 잔액 % 1000 일괄 저축 / round-up: 지출마다 잔돈 저축 (RoundUpSavingPoller, 주간 일괄 실행 없음)
+    @Value("${auto-saving.mode:weekly}")
+    private String mode;
+
     @Scheduled(cron = "0 0 1 ? * MON", zone = "Asia/Seoul")
-    @Transactional
     public void runWeeklyChangeSweep() {
-        log.info("[WeeklyAutoSaving] START (KST now={})", ZonedDateTime.now(KST));
+        if (!isWeeklyMode()) {
+            log.info("[WeeklyAutoSaving] auto-saving.mode=round-up — weekly sweep skipped");
+            return;
+        }
+        sweep();
+    }
+
+    /** round-up 모드에서는 잔돈을 지출마다 저축하므로 주간 일괄 저축을 돌리면 이중 저축이 된다 */
+    public boolean isWeeklyMode() {
+        return !"round-up".equalsIgnoreCase(mode);
+    }
 
-        // auto_saving = true 인 저금통만
-        List<PiggyBank> targets = piggyBankRepository.findAllByAutoSavingTrue();
-        if (targets.isEmpty()) {
-            log.info("[WeeklyAutoSaving] no targets — skip");
-            log.info("[WeeklyAutoSaving] END");
+    /**
+     * 대상 유저를 동시성/속도 제한 안에서 병렬 처리. 한 유저의 실패는 다른 유저에 영향 없음.
+     * 파티션마다 리스를 잡으므로 여러 노드에서 동시에 떠도 같은 유저를 두 번 처리하지 않는다.
+     */
+    public BatchRunReport sweep() {
+        return sweep(false, new BatchRunReport(JOB_NAME));
+    }
+
+    /**
+     * @param dryRun true 면 거래내역/잔액 조회로 저축할 금액만 계산 (이체, 저금통 반영, 체크포인트 기록 없음)
+     * @param report 진행 상황을 실시간으로 누적할 리포트 (관리자 실행 시 진행률 스트리밍용)
+     */
+    public BatchRunReport sweep(boolean dryRun, BatchRunReport report) {
+        log.info("[WeeklyAutoSaving] START dryRun={} (KST now={})", dryRun, ZonedDateTime.now(KST));
+        report.expect(piggyBankRepository.countByAutoSavingTrue());
+
+        if (dryRun) {
+            // 파티션/리스 없이 전체 대상을 한 번에 훑음
+            chunkReader.forEachChunk(
+                    0L,
+                    (afterId, page) -> piggyBankRepository.findAutoSavingTargetsAfter(0, 1, afterId, page),
+                    AutoSavingTargetProjection::getPiggyId,
+                    chunk -> sweepChunk(null, chunk, report));
+            log.info("[WeeklyAutoSaving] END dryRun {}", report.finish());
+            return report;
+        }
+
+        LocalDate weekMon = LocalDate.now(KST).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        String runKey = weekMon.format(YMD);
+        if (!spreadEnabled) {
+            int done = jobLeaseManager.runPartitioned(JOB_NAME, runKey, partitions,
+                    partition -> sweepPartition(runKey, 0, 1, partition, report));
+            log.info("[WeeklyAutoSaving] END partitions={} {}", done, report.finish());
+            return report;
+        }
+
+        // 구간마다 파티션 리스를 따로 잡으므로 여러 노드가 같은 구간을 나눠 처리
+        // 창은 그 주 월 01:00 기준 — 재실행(관리자 실행 포함) 시 지난 구간은 바로, 끝난 구간은 리스 완료 표시로 건너뜀
+        int slots = Math.max(1, spreadSlots);
+        LoadSpreadWindow.Report spread = loadSpreadWindow.run(JOB_NAME,
+                LoadSpreadWindow.windowStart(weekMon, SCHEDULED_AT), Duration.ofMinutes(spreadWindowMinutes), slots,
+                slot -> jobLeaseManager.runPartitioned(JOB_NAME, runKey + ":s" + slot, partitions,
+                        partition -> sweepPartition(runKey, slot, slots, partition, report)));
+
+        log.info("[WeeklyAutoSaving] END {} / {}", report.finish(), spread);
+        return report;
+    }
+
+    /** slots == 1 이면 분산 없이 파티션 전체, 아니면 파티션 중 slot 구간에 배정된 저금통만 */
+    private void sweepPartition(String runKey, int slot, int slots, int partition, BatchRunReport report) {
+        String scope = slots == 1 ? "p" + partition : "s" + slot + ":p" + partition;
+        JobRun run = jobRunService.start(JOB_NAME, runKey, scope);
+        if (run.getStatus() == JobRunStatus.COMPLETED) {
+            log.info("[WeeklyAutoSaving] {} already completed for run={} — skip", scope, runKey);
             return;
         }
+        int bucket = LoadSpreadWindow.bucketOf(partition, partitions, slot);
+        int buckets = partitions * slots;
+
+        // 이전 실행에서 실패한 유저가 있으면 체크포인트 앞쪽에 있을 수 있으므로 처음부터 다시 읽음 (끝난 유저는 sweepChunk 에서 건너뜀)
+        long resumeAfter = jobRunService.hasFailedItems(run.getId()) ? 0L : run.getLastProcessedId();
 
-        // 순차 처리(안전). 필요 시 flatMap(concurrency=N) 으로 병렬화 가능
-        for (PiggyBank piggy : targets) {
-            try {
-                processOnePiggy(piggy)
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .block(); // 스케줄러 한 사이클 내에서 완료
-            } catch (Exception e) {
-                log.warn("[WeeklyAutoSaving] process error (piggyId={}, ownerId={}) : {}",
-                        piggy.getId(),
-                        Optional.ofNullable(piggy.getOwner()).map(Users::getId).orElse(null),
-                        e.toString(), e);
-            }
+        try {
+            // auto_saving = true 인 저금통만, 체크포인트 다음 id 부터 청크 단위로 읽음
+            chunkReader.forEachChunk(
+                    resumeAfter,
+                    (afterId, page) -> piggyBankRepository.findAutoSavingTargetsAfter(bucket, buckets, afterId, page),
+                    AutoSavingTargetProjection::getPiggyId,
+                    chunk -> {
+                        sweepChunk(run.getId(), chunk, report);
+                        jobRunService.checkpoint(run.getId(), chunk.get(chunk.size() - 1).getPiggyId());
+                    });
+        } catch (RuntimeException e) {
+            jobRunService.fail(run.getId(), e.toString());
+            throw e;
         }
 
-        log.info("[WeeklyAutoSaving] END");
+        // 실패한 유저가 남았으면 FAILED 로 두고 예외로 파티션 완료 표시를 막음 → 다음 실행에서 다시 시도
+        if (jobRunService.hasFailedItems(run.getId())) {
+            jobRunService.fail(run.getId(), "failed items remain");
+            throw new IllegalStateException(scope + " has failed items for run=" + runKey);
+        }
+        jobRunService.complete(run.getId());
     }
 
-    private Mono<Void> processOnePiggy(PiggyBank piggy) {
-        Users owner = piggy.getOwner();
-        if (owner == null) {
-            log.warn("[WeeklyAutoSaving] owner null (piggyId={}) — skip", piggy.getId());
-            return Mono.empty();
+    /** runId 가 null 이면 dry-run (결과 기록/이체 없음) */
+    private void sweepChunk(Long runId, List<AutoSavingTargetProjection> chunk, BatchRunReport report) {
+        // 이전 실행에서 이미 끝난 유저는 외부 거래내역 확인 없이 건너뜀
+        Set<String> finished = runId == null ? Set.of()
+                : jobRunService.finishedItems(runId, chunk.stream().map(t -> itemKey(t.getPiggyId())).toList());
+
+        Flux<AutoSavingTargetProjection> source = Flux.fromIterable(chunk)
+                .filter(t -> {
+                    if (!finished.contains(itemKey(t.getPiggyId()))) return true;
+                    report.skipped();
+                    return false;
+                });
+        if (usersPerSecond > 0) {
+            source = source.delayElements(Duration.ofNanos((long) (1_000_000_000L / usersPerSecond)));
         }
 
-        String primary = owner.getPrimaryAccountNo();
-        String piggyAcc = piggy.getAccountNo();
+        source
+                .flatMap(t -> processOnePiggy(runId, t, report)
+                                .contextWrite(FinancialApiPriority.batch()), // 사용자 요청보다 후순위로 외부 API 호출
+                        Math.max(1, concurrency))
+                .then()
+                .block(); // 청크를 다 끝낸 뒤 체크포인트
+    }
+
+    private Mono<Void> processOnePiggy(Long runId, AutoSavingTargetProjection t, BatchRunReport report) {
+        String itemKey = itemKey(t.getPiggyId());
+        boolean dryRun = runId == null;
+        return Mono.defer(() -> processOnePiggy(t, dryRun))
+                .flatMap(amount -> {
+                    report.processed(amount);
+                    return recordItem(runId, itemKey, JobRunItemStatus.DONE, amount, null);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    report.skipped();
+                    return recordItem(runId, itemKey, JobRunItemStatus.SKIPPED, 0L, null);
+                }))
+                .onErrorResume(e -> {
+                    log.warn("[WeeklyAutoSaving] failed piggyId={}, userId={}, msg={}", t.getPiggyId(), t.getOwnerId(), e.getMessage(), e);
+                    report.failed();
+                    // 한 유저 실패해도 전체 스케줄은 계속 (다음 실행에서 다시 시도)
+                    return recordItem(runId, itemKey, JobRunItemStatus.FAILED, 0L, e.getMessage());
+                })
+                .then();
+    }
+
+    /** 체크포인트 기록 실패는 로그만 (해당 유저는 다음 실행에서 거래내역 태그로 다시 확인됨) */
+    private Mono<Boolean> recordItem(Long runId, String itemKey, JobRunItemStatus status, long amount, String message) {
+        if (runId == null) return Mono.just(true); // dry-run
+        return Mono.fromRunnable(() -> jobRunService.recordItem(runId, itemKey, status, amount, null, message))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[WeeklyAutoSaving] record item failed runId={}, item={}, msg={}", runId, itemKey, e.getMessage());
+                    return Mono.empty();
+                })
+                .thenReturn(true);
+    }
+
+    private static String itemKey(Long piggyId) {
+        return "P:" + piggyId;
+    }
+
+    /** 이체 금액을 내보내고 끝나거나, 처리할 것이 없으면 비어서 끝남 (dryRun 이면 이체할 금액만 계산) */
+    private Mono<Long> processOnePiggy(AutoSavingTargetProjection t, boolean dryRun) {
+        Long ownerId = t.getOwnerId();
+        String primary = t.getPrimaryAccountNo();
+        String piggyAcc = t.getPiggyAccountNo();
 
         if (primary == null || primary.isBlank()) {
-            log.info("[WeeklyAutoSaving] primary account missing — skip userId={}", owner.getId());
+            log.info("[WeeklyAutoSaving] primary account missing — skip userId={}", ownerId);
             return Mono.empty();
         }
         if (piggyAcc == null || piggyAcc.isBlank()) {
-            log.info("[WeeklyAutoSaving] piggy account missing — skip userId={}", owner.getId());
+            log.info("[WeeklyAutoSaving] piggy account missing — skip userId={}", ownerId);
             return Mono.empty();
         }
 
         // 반드시 복호화해서 사용
-        String encryptedUserKey = owner.getUserKey();
+        String encryptedUserKey = t.getUserKey();
         if (encryptedUserKey == null || encryptedUserKey.isBlank()) {
-            log.info("[WeeklyAutoSaving] userKey missing — skip userId={}", owner.getId());
+            log.info("[WeeklyAutoSaving] userKey missing — skip userId={}", ownerId);
             return Mono.empty();
         }
 
@@ -97,8 +263,7 @@ public class WeeklyAutoSavingScheduler {
         try {
             userKey = encryptionService.decrypt(encryptedUserKey);
         } catch (Exception e) {
-            log.warn("[WeeklyAutoSaving] decrypt userKey failed — skip userId={}, msg={}", owner.getId(), e.getMessage(), e);
-            return Mono.empty();
+            return Mono.error(new IllegalStateException("decrypt userKey failed: " + e.getMessage(), e));
         }
 
         // 이번 주 월요일 ~ 일요일
@@ -108,34 +273,24 @@ public class WeeklyAutoSavingScheduler {
         final String weekTag = "[W:" + weekMon.format(WEEK_TAG_FMT) + "]"; // [W:yyyyMMdd]
 
         // 1) 아이템포턴시: 이번 주에 이미 실행된 적 있는지 저금통 계좌 입금내역으로 확인
-        return financialApiService
-                .inquireTransactionHistoryList(userKey, piggyAcc, weekMon.format(YMD), weekSun.format(YMD), "A", "ASC")
-
-                // 결과가 있을 때: 이미 처리됐는지 검사
-                .flatMap(res -> {
-                    boolean already = res != null
-                            && res.getRec() != null
-                            && res.getRec().getList() != null
-                            && res.getRec().getList().stream().anyMatch(r -> isWeeklyAutoSavingTx(r, owner.getId(), weekTag));
+        //    (원장을 최신 거래까지 강제 동기화한 뒤 조회 — 워터마크 이후 증분만 외부 API 호출)
+        return transactionLedgerService
+                .getFreshHistory(userKey, piggyAcc, weekMon, weekSun, "ASC")
+                .defaultIfEmpty(List.of())
+                .flatMap(rows -> {
+                    boolean already = rows.stream().anyMatch(r -> isWeeklyAutoSavingTx(r, ownerId, weekTag));
 
                     if (already) {
-                        log.info("[WeeklyAutoSaving] already done this week — skip userId={}, weekTag={}", owner.getId(), weekTag);
+                        log.info("[WeeklyAutoSaving] already done this week — skip userId={}, weekTag={}", ownerId, weekTag);
                         return Mono.empty();
                     }
-                    // 거래내역은 있었지만 '이번 주 자동저축'은 아님 → 이체 진행
-                    return doTransfer(owner, userKey, primary, piggyAcc, weekMon, weekTag);
-                })
-
-                // 결과가 "빈 Mono"인 경우(= 조회 결과 없음) → 이체 진행
-                .switchIfEmpty(doTransfer(owner, userKey, primary, piggyAcc, weekMon, weekTag))
-
-                .onErrorResume(e -> {
-                    log.warn("[WeeklyAutoSaving] failed userId={}, msg={}", owner.getId(), e.getMessage(), e);
-                    return Mono.empty(); // 한 유저 실패해도 전체 스케줄은 계속
+                    // 이번 주 자동저축 거래가 없음 → 이체 진행
+                    return doTransfer(ownerId, userKey, primary, piggyAcc, weekMon, weekTag, dryRun);
                 });
     }
 
-    private Mono<Void> doTransfer(Users owner, String userKey, String primary, String piggyAcc, LocalDate weekMon, String weekTag) {
+    private Mono<Long> doTransfer(Long ownerId, String userKey, String primary, String piggyAcc, LocalDate weekMon, String weekTag,
+                                  boolean dryRun) {
         // 2) 주계좌 잔액 조회 → 잔액 % 1000 계산
         return financialApiService.inquireDemandDepositAccount(userKey, primary)
                 .flatMap(acc -> {
@@ -154,11 +309,12 @@ public class WeeklyAutoSavingScheduler {
                     long amount = balance % 1000L;
                     if (amount <= 0) {
                         log.info("[WeeklyAutoSaving] nothing to sweep (balance={}, remainder={}) userId={}",
-                                balance, amount, owner.getId());
+                                balance, amount, ownerId);
                         return Mono.empty();
                     }
+                    if (dryRun) return Mono.just(amount);
 
-                    String summary = "[TIGGLE][CHANGE][UID:" + owner.getId() + "]" + weekTag + " 주간 잔돈 자동저축";
+                    String summary = "[TIGGLE][CHANGE][UID:" + ownerId + "]" + weekTag + " 주간 잔돈 자동저축";
                     String memo = "주간 잔돈 자동저축 " + weekMon.getMonthValue() + "월 " + weekMon.getDayOfMonth() + "일~";
 
                     // 3) 이체 실행(출금: 주계좌 → 입금: 저금통)
@@ -179,15 +335,15 @@ public class WeeklyAutoSavingScheduler {
 
                                 // 4) 저금통 반영 (쓰기 작업은 별도 스레드에서)
                                 return Mono.fromCallable(() ->
-                                                piggyBankWriterService.applyTiggle(owner.getId(), BigDecimal.valueOf(amount))
+                                                piggyBankWriterService.applyTiggle(ownerId, BigDecimal.valueOf(amount))
                                         )
                                         .subscribeOn(Schedulers.boundedElastic())
                                         .doOnNext(readyNow -> {
                                             if (readyNow) {
-                                                log.info("[WeeklyAutoSaving] userId={} 목표금액 달성(donation_ready=ON)", owner.getId());
+                                                log.info("[WeeklyAutoSaving] userId={} 목표금액 달성(donation_ready=ON)", ownerId);
                                             }
                                         })
-                                        .then();
+                                        .thenReturn(amount);
                             });
                 });
     }
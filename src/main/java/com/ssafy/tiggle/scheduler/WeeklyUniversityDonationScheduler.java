@@ -1,29 +1,39 @@
 package com.ssafy.tiggle.scheduler;
 
+import com.ssafy.tiggle.dto.donation.response.DonationAuditEvent;
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
 import com.ssafy.tiggle.entity.EsgCategory;
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunItemStatus;
+import com.ssafy.tiggle.entity.JobRunStatus;
 import com.ssafy.tiggle.entity.PiggyBank;
 import com.ssafy.tiggle.entity.University;
 import com.ssafy.tiggle.entity.Users;
 import com.ssafy.tiggle.repository.piggybank.PiggyBankRepository;
+import com.ssafy.tiggle.repository.university.UniversityRepository;
 import com.ssafy.tiggle.repository.user.StudentRepository;
+import com.ssafy.tiggle.service.donation.DonationAuditLog;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiPriority;
 import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.jobrun.JobRunService;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
+import com.ssafy.tiggle.service.piggybank.PiggyBankWriterService;
 import com.ssafy.tiggle.service.security.EncryptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.math.BigDecimal;
-import java.nio.file.*;
-import java.text.Normalizer;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
@@ -34,21 +44,60 @@ public class WeeklyUniversityDonationScheduler {
     private final StudentRepository usersRepository;
     private final FinancialApiService financialApiService;
     private final EncryptionService encryptionService;
+    private final UniversityRepository universityRepository;
+    private final PiggyBankWriterService piggyBankWriterService;
+    private final KeysetChunkReader chunkReader;
+    private final JobLeaseManager jobLeaseManager;
+    private final JobRunService jobRunService;
+    private final DonationAuditLog auditLog;
+    private final LoadSpreadWindow loadSpreadWindow;
+    private final TransactionLedgerService transactionLedgerService;
 
     private static final long   SETTLEMENT_USER_ID    = 1L;
     private static final String SETTLEMENT_USER_EMAIL = "";
-    private static final String LOG_DIR =
-            Paths.get(System.getProperty("user.dir"), "donation-logs").toString();
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final DateTimeFormatter WEEK_TAG_FMT = DateTimeFormatter.BASIC_ISO_DATE;
 
+    private static final String JOB_NAME = "weekly-university-donation";
+    // @Scheduled cron 과 같은 시각 (분산 실행 창의 기준)
+    private static final LocalTime SCHEDULED_AT = LocalTime.of(2, 0);
+    private static final String SCOPE_PREFIX = "U:";
+
+    // 대학 해시 파티션 수 (여러 노드가 파티션 단위로 나눠 처리)
+    @Value("${university-donation.partitions:4}")
+    private int partitions;
+
+    // 동시에 처리할 대학 수
+    @Value("${university-donation.university-concurrency:4}")
+    private int universityConcurrency;
+
+    // 대학 하나 안에서 동시에 진행할 출금 수
+    @Value("${university-donation.withdraw-concurrency:8}")
+    private int withdrawConcurrency;
+
+    // 분산 실행: window-minutes 동안 slots 개 구간으로 나눠 대학별 고정 구간에 처리
+    @Value("${university-donation.spread.enabled:false}")
+    private boolean spreadEnabled;
+
+    @Value("${university-donation.spread.window-minutes:180}")
+    private long spreadWindowMinutes;
+
+    @Value("${university-donation.spread.slots:12}")
+    private int spreadSlots;
+
     @Scheduled(cron = "0 0 2 ? * MON", zone = "Asia/Seoul")
-    @Transactional
     public void runWeeklyUniversityDonation() {
-        log.info("[WeeklyUniversityDonation] START (KST now={})", ZonedDateTime.now(KST));
+        run(false, new BatchRunReport(JOB_NAME));
+    }
+
+    /**
+     * @param dryRun true 면 대학/테마별 출금 예정 금액만 집계 (출금, 송금, 체크포인트 기록 없음)
+     * @param report 진행 상황을 실시간으로 누적할 리포트 (관리자 실행 시 진행률 스트리밍용)
+     */
+    public BatchRunReport run(boolean dryRun, BatchRunReport report) {
+        log.info("[WeeklyUniversityDonation] START dryRun={} (KST now={})", dryRun, ZonedDateTime.now(KST));
 
         // 0) 정산 유저 조회
         Users settlementUser = resolveSettlementUser();
@@ -56,7 +105,7 @@ public class WeeklyUniversityDonationScheduler {
                 || isBlank(settlementUser.getPrimaryAccountNo())
                 || isBlank(settlementUser.getUserKey())) {
             log.warn("[WeeklyUniversityDonation] settlement user resolve failed — abort");
-            return;
+            return report.finish();
         }
         final String settlementAccountNo = settlementUser.getPrimaryAccountNo();
         final String settlementUserKey;
@@ -64,7 +113,7 @@ public class WeeklyUniversityDonationScheduler {
             settlementUserKey = encryptionService.decrypt(settlementUser.getUserKey());
         } catch (Exception e) {
             log.warn("[WeeklyUniversityDonation] decrypt settlement key failed: {}", e.getMessage());
-            return;
+            return report.finish();
         }
 
         // 1) 이번 주 범위 & 태그(로그/메모용)
@@ -73,192 +122,357 @@ public class WeeklyUniversityDonationScheduler {
         LocalDate weekSun = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
         final String weekTag = "[W:" + weekMon.format(WEEK_TAG_FMT) + "]";
 
-        // 2) 후보 조회: donation_ready=true + auto_donation=true + current>=target
-        List<PiggyBank> targets = piggyBankRepository.findAllReadyToDonate();
-        if (targets.isEmpty()) {
+        // 2) 후보가 있는 대학: donation_ready=true + auto_donation=true + current>=target
+        //    + 이번 회차에 중단된 대학 (출금은 끝났지만 테마 합산 송금 전에 멈춘 경우 등)
+        String runKey = weekMon.format(YMD);
+        Set<Long> universityIds = new LinkedHashSet<>(piggyBankRepository.findUniversityIdsReadyToDonate());
+        for (String scope : jobRunService.unfinishedScopes(JOB_NAME, runKey)) {
+            universityIds.add(Long.valueOf(scope.substring(SCOPE_PREFIX.length())));
+        }
+        if (universityIds.isEmpty()) {
             log.info("[WeeklyUniversityDonation] no targets — END");
-            return;
+            return report.finish();
         }
+        report.expect(piggyBankRepository.countReadyToDonate());
 
-        // 3) 대학별 그룹
-        Map<Long, List<PiggyBank>> byUniv = targets.stream()
-                .collect(Collectors.groupingBy(p -> p.getOwner().getUniversity().getId()));
+        if (dryRun) {
+            universityIds.forEach(universityId -> dryRunUniversity(universityId, report));
+            log.info("[WeeklyUniversityDonation] END dryRun {}", report.finish());
+            return report;
+        }
 
-        // 4) 로그 디렉터리 준비
-        Path dir = Paths.get(LOG_DIR);
-        try {
-            Files.createDirectories(dir);
-        } catch (IOException e) {
-            log.warn("[WeeklyUniversityDonation] cannot create log dir {}: {}", LOG_DIR, e.getMessage());
-            return;
+        // 3) 대학별 처리 (대상 저금통은 id 순 청크로 읽음)
+        //    대학 id 해시 파티션마다 리스를 잡으므로 여러 노드에서 떠도 한 대학은 한 노드만 처리 (테마 합산도 대학 단위)
+        if (!spreadEnabled) {
+            int done = jobLeaseManager.runPartitioned(JOB_NAME, runKey, partitions, partition ->
+                    donatePartition(runKey, universityIds, 0, 1, partition, report, settlementUserKey, settlementAccountNo, weekMon, weekSun, weekTag));
+            log.info("[WeeklyUniversityDonation] END partitions={} {}", done, report.finish());
+            return report;
         }
 
-        // 5) 대학별 처리
-        for (Map.Entry<Long, List<PiggyBank>> entry : byUniv.entrySet()) {
-            List<PiggyBank> list = entry.getValue();
-            if (list.isEmpty()) continue;
+        // 분산 실행: 대학마다 창 안의 고정 구간에 처리 (테마 합산 송금이 대학 단위라 유저가 아닌 대학 id 로 배정)
+        // 창은 그 주 월 02:00 기준 — 재실행(관리자 실행 포함) 시 지난 구간은 바로, 끝난 구간은 리스 완료 표시로 건너뜀
+        int slots = Math.max(1, spreadSlots);
+        LoadSpreadWindow.Report spread = loadSpreadWindow.run(JOB_NAME,
+                LoadSpreadWindow.windowStart(weekMon, SCHEDULED_AT), Duration.ofMinutes(spreadWindowMinutes), slots,
+                slot -> jobLeaseManager.runPartitioned(JOB_NAME, runKey + ":s" + slot, partitions, partition ->
+                        donatePartition(runKey, universityIds, slot, slots, partition, report, settlementUserKey, settlementAccountNo, weekMon, weekSun, weekTag)));
+        log.info("[WeeklyUniversityDonation] END {} / {}", report.finish(), spread);
+        return report;
+    }
 
-            University univ = list.get(0).getOwner().getUniversity();
-            String univName = Optional.ofNullable(univ.getName()).orElse("UnknownUniversity");
+    /** 파티션(과 분산 구간)에 속한 대학들을 병렬 처리. 끝나지 않은 대학이 있으면 예외로 파티션 완료 표시를 막는다 */
+    private void donatePartition(String runKey, Set<Long> universityIds, int slot, int slots, int partition, BatchRunReport report,
+                                 String settlementUserKey, String settlementAccountNo,
+                                 LocalDate weekMon, LocalDate weekSun, String weekTag) {
+        int bucket = LoadSpreadWindow.bucketOf(partition, partitions, slot);
+        int buckets = partitions * slots;
+
+        // 대학끼리는 서로 독립이므로 병렬 처리 (대학 안에서도 출금은 bounded 병렬)
+        Long incomplete = Flux.fromIterable(universityIds)
+                .filter(universityId -> Math.floorMod(universityId, buckets) == bucket)
+                .flatMap(universityId -> Mono.fromCallable(() -> {
+                                    University univ = universityRepository.findById(universityId).orElse(null);
+                                    if (univ == null) return true;
+                                    return donateUniversity(runKey, univ, report, settlementUserKey, settlementAccountNo, weekMon, weekSun, weekTag);
+                                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .onErrorResume(e -> {
+                                    log.warn("[WeeklyUniversityDonation] univ={} failed: {}", universityId, e.toString(), e);
+                                    return Mono.just(false);
+                                }),
+                        Math.max(1, universityConcurrency))
+                .filter(ok -> !ok)
+                .count()
+                .block();
+        // 남은 송금이 있으면 파티션을 완료 처리하지 않음 → 재실행 시 체크포인트부터 이어서
+        if (incomplete != null && incomplete > 0) {
+            throw new IllegalStateException(incomplete + " university run(s) incomplete");
+        }
+    }
 
-            String fileBase = LocalDateTime.now(KST).format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
-            String safeUnivName = toSafeFileName(univName);
-            Path file = dir.resolve(fileBase + "-" + univ.getId() + "-" + safeUnivName + ".log");
+    /** dry-run: 출금 예정 저금통을 읽어 건수/금액만 집계 (테마 계좌가 없으면 로그) */
+    private void dryRunUniversity(Long universityId, BatchRunReport report) {
+        University univ = universityRepository.findById(universityId).orElse(null);
+        if (univ == null) return;
+
+        Map<Integer, BigDecimal> themeSum = new HashMap<>();
+        chunkReader.forEachChunk(
+                0L,
+                (afterId, page) -> piggyBankRepository.findReadyToDonateAfter(universityId, afterId, page),
+                PiggyBank::getId,
+                chunk -> chunk.forEach(p -> {
+                    BigDecimal amount = nvl(p.getTargetAmount());
+                    themeSum.merge(themeId(p.getEsgCategory()), amount, BigDecimal::add);
+                    report.processed(amount.longValue());
+                }));
 
-            Map<Integer, BigDecimal> themeSum = new HashMap<>();
-            themeSum.put(1, BigDecimal.ZERO);
-            themeSum.put(2, BigDecimal.ZERO);
-            themeSum.put(3, BigDecimal.ZERO);
+        themeSum.forEach((catId, sum) -> log.info("[WeeklyUniversityDonation] dryRun univ={} theme={} amount={}{}",
+                universityId, themeName(catId), sum.stripTrailingZeros().toPlainString(),
+                isBlank(resolveThemeAccount(univ, catId)) ? " (theme account missing)" : ""));
+    }
 
-            String tsPrefix = "[" + LocalDateTime.now(KST).format(TS) + "] ";
+    /** @return 이 대학의 이번 회차 처리가 끝났으면 true (테마 송금이 남았으면 false) */
+    private boolean donateUniversity(String runKey, University univ, BatchRunReport report, String settlementUserKey, String settlementAccountNo,
+                                  LocalDate weekMon, LocalDate weekSun, String weekTag) {
+        JobRun run = jobRunService.start(JOB_NAME, runKey, SCOPE_PREFIX + univ.getId());
+        if (run.getStatus() == JobRunStatus.COMPLETED) {
+            log.info("[WeeklyUniversityDonation] univ={} already completed for run={} — skip", univ.getId(), runKey);
+            return true;
+        }
+        Long runId = run.getId();
+        Long univId = univ.getId();
+        String univName = Optional.ofNullable(univ.getName()).orElse("UnknownUniversity");
+
+        // 출금 스레드들이 동시에 더하므로 ConcurrentHashMap.merge 로 원자적 누적
+        Map<Integer, BigDecimal> themeSum = new ConcurrentHashMap<>();
+        themeSum.put(1, BigDecimal.ZERO);
+        themeSum.put(2, BigDecimal.ZERO);
+        themeSum.put(3, BigDecimal.ZERO);
+        // 재개: 이전 실행에서 이미 출금한 금액을 테마 합계에 복원
+        jobRunService.sumDoneByGroup(runId).forEach((catId, sum) ->
+                themeSum.merge(Integer.valueOf(catId), BigDecimal.valueOf(sum), BigDecimal::add));
+        boolean allSent = true;
+
+        audit(runKey, DonationAuditEvent.Type.RUN_START, univId, null, null, null, null, null, null);
+
+        // 3-1) 유저별 출금 (체크포인트 다음 id 부터, 이미 끝난 유저는 건너뜀)
+        //      이전 실행에서 실패한 출금이 있으면 체크포인트 앞쪽에 있을 수 있으므로 처음부터 다시 읽음
+        //      (실패한 유저는 donation_ready 를 되돌려 두므로 다시 대상 목록에 나온다)
+        long resumeAfter = jobRunService.hasFailedItems(runId) ? 0L : run.getLastProcessedId();
+        chunkReader.forEachChunk(
+                resumeAfter,
+                (afterId, page) -> piggyBankRepository.findReadyToDonateAfter(univId, afterId, page),
+                PiggyBank::getId,
+                chunk -> {
+                    List<String> keys = chunk.stream().map(p -> piggyItemKey(p.getId())).toList();
+                    Set<String> finished = jobRunService.finishedItems(runId, keys);
+                    Set<String> retrying = jobRunService.failedItems(runId, keys);
+                    // 선점(acquireDonationSlot)은 유저마다 따로 잡으므로 병렬로 돌려도 한 유저가 두 번 출금되지 않음
+                    Flux.fromIterable(chunk)
+                            .filter(p -> {
+                                if (!finished.contains(piggyItemKey(p.getId()))) return true;
+                                report.skipped();
+                                return false;
+                            })
+                            .flatMap(p -> Mono.fromRunnable(() -> withdrawOne(runId, runKey, univId, p,
+                                                    retrying.contains(piggyItemKey(p.getId())), weekMon, weekSun, weekTag, themeSum, report))
+                                            .subscribeOn(Schedulers.boundedElastic()),
+                                    Math.max(1, withdrawConcurrency))
+                            .then()
+                            .block(); // 청크를 다 끝낸 뒤 체크포인트
+                    jobRunService.checkpoint(runId, chunk.get(chunk.size() - 1).getId());
+                });
+
+        // 테마별로 이미 송금한 금액 (재시도에서 출금이 늘었으면 차액만 송금)
+        Map<String, Long> themesSent = jobRunService.doneAmounts(runId, List.of(themeItemKey(1), themeItemKey(2), themeItemKey(3)));
+
+        // 3-2) 대학×테마 합산 송금
+        for (Map.Entry<Integer, BigDecimal> tsEntry : themeSum.entrySet()) {
+            int catId = tsEntry.getKey();
+            BigDecimal total = nvl(tsEntry.getValue());
+            BigDecimal sum = total.subtract(BigDecimal.valueOf(themesSent.getOrDefault(themeItemKey(catId), 0L)));
+            if (sum.compareTo(BigDecimal.ZERO) <= 0) continue; // 없거나 이전 실행에서 송금 완료
+
+            String toAccount = resolveThemeAccount(univ, catId);
+            if (isBlank(toAccount)) {
+                audit(runKey, DonationAuditEvent.Type.THEME_ACCOUNT_MISSING, univId, null, null,
+                        themeName(catId), null, sum.longValue(), "theme account not set");
+                continue;
+            }
 
-            try (BufferedWriter bw = Files.newBufferedWriter(file)) {
-                bw.write(tsPrefix + univName + " 학교 계좌로 학생들 티끌 저금통 모금 시작");
-                bw.newLine();
+            String summary = "[TIGGLE][DONATION][UNIV:" + univId + "][THEME:" + themeName(catId) + "]"
+                    + weekTag + " 주간 합산 송금";
+            String memo = univName + " " + themeName(catId) + " 테마 주간 합산 송금("
+                    + weekMon.format(YMD) + "~" + weekSun.format(YMD) + ")";
+            try {
+                var trResp = financialApiService.updateDemandDepositAccountTransfer(
+                        settlementUserKey, toAccount, summary,
+                        sum.stripTrailingZeros().toPlainString(),
+                        settlementAccountNo, memo
+                ).contextWrite(FinancialApiPriority.batch()).block();
+
+                boolean ok = trResp != null && trResp.getHeader() != null
+                        && "H0000".equals(trResp.getHeader().getResponseCode());
+                if (ok) {
+                    audit(runKey, DonationAuditEvent.Type.THEME_TRANSFER_DONE, univId, null, null,
+                            themeName(catId), toAccount, sum.longValue(), null);
+                    // 누적 송금액으로 기록 (다음 재시도의 차액 기준)
+                    jobRunService.recordItem(runId, themeItemKey(catId), JobRunItemStatus.DONE, total.longValue(), null, null);
+                } else {
+                    allSent = false;
+                    String msg = (trResp == null || trResp.getHeader() == null)
+                            ? "no response/header" : trResp.getHeader().getResponseMessage();
+                    audit(runKey, DonationAuditEvent.Type.THEME_TRANSFER_FAILED, univId, null, null,
+                            themeName(catId), toAccount, sum.longValue(), msg);
+                }
+            } catch (Exception e) {
+                allSent = false;
+                audit(runKey, DonationAuditEvent.Type.THEME_TRANSFER_FAILED, univId, null, null,
+                        themeName(catId), toAccount, sum.longValue(), e.getMessage());
+            }
+        }
 
-                // 5-1) 유저별 출금
-                for (PiggyBank p : list) {
-                    Users u = p.getOwner();
-                    String userName = Optional.ofNullable(u.getName()).orElse("UnknownUser");
-                    String piggyAcc = Optional.ofNullable(p.getAccountNo()).orElse("N/A");
-                    int catId = themeId(p.getEsgCategory());
-                    String theme = themeName(catId) + "테마";
-                    BigDecimal amount = nvl(p.getTargetAmount());
+        // 송금이 하나라도 남았거나 실패한 출금이 있으면 FAILED 로 두어 다음 실행에서 이어서 처리
+        boolean failedWithdrawals = jobRunService.hasFailedItems(runId);
+        if (allSent && !failedWithdrawals) {
+            jobRunService.complete(runId);
+            return true;
+        }
+        jobRunService.fail(runId, allSent ? "failed withdrawals remain" : "theme transfer incomplete");
+        return false;
+    }
 
-                    // (A) 선점(락): donation_ready=1 -> 0 으로 바꿔서 내가 처리권 확보
-                    int slot = usersRepository.acquireDonationSlot(u.getId());
-                    if (slot == 0) {
-                        // 이미 다른 워커/서버가 처리 중이거나 방금 처리 완료됨
-                        bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc + " 선점 실패 — 스킵");
-                        bw.newLine();
-                        continue;
-                    }
-
-                    // (B) 안전 가드: 실제 잔액이 target보다 작아졌다면 스킵
-                    if (nvl(p.getCurrentAmount()).compareTo(amount) < 0) {
-                        bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc +
-                                " 현재 잔액 부족 — 스킵(current=" +
-                                nvl(p.getCurrentAmount()).stripTrailingZeros().toPlainString() +
-                                ", target=" + amount.stripTrailingZeros().toPlainString() + ")");
-                        bw.newLine();
-                        // 선점으로 donation_ready는 이미 0이므로 추가 조치 불필요
-                        continue;
-                    }
-
-                    // (C) userKey 복호화
-                    final String userKey;
-                    try {
-                        if (isBlank(u.getUserKey())) {
-                            bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc + " 출금 스킵(사유:userKey 없음)");
-                            bw.newLine();
-                            // 실패이긴 하지만 조건이 아직 충족이면 다시 ready로(선택: 여기선 굳이 안 올림)
-                            continue;
-                        }
-                        userKey = encryptionService.decrypt(u.getUserKey());
-                    } catch (Exception e) {
-                        bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc + " 출금 스킵(사유:복호화 실패)");
-                        bw.newLine();
-                        // 복구: 조건 유지 시 다시 ready=1
-                        usersRepository.markDonationReadyIfReached(u.getId());
-                        continue;
-                    }
-
-                    // (D) 출금 수행 (저금통 계좌에서 target만큼)
-                    String summary = "[TIGGLE][DONATION][WD][UID:" + u.getId() + "]" + weekTag + " 주간 자동 기부 출금";
-                    try {
-                        var wdResp = financialApiService
-                                .updateDemandDepositAccountWithdrawal(userKey, piggyAcc,
-                                        amount.stripTrailingZeros().toPlainString(), summary)
-                                .block();
-
-                        boolean ok = wdResp != null && wdResp.getHeader() != null
-                                && "H0000".equals(wdResp.getHeader().getResponseCode());
-                        if (!ok) {
-                            String msg = (wdResp == null || wdResp.getHeader() == null)
-                                    ? "no response/header" : wdResp.getHeader().getResponseMessage();
-                            bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc + " 출금 실패: " + msg);
-                            bw.newLine();
-                            // 복구: 조건 유지 시 다시 ready=1
-                            usersRepository.markDonationReadyIfReached(u.getId());
-                            continue;
-                        }
-
-                        // (E) 파일 기록
-                        bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc +
-                                "에서 " + amount.stripTrailingZeros().toPlainString() + "원" + " 출금");
-                        bw.newLine();
-
-                        // (F) DB 반영(원자적 차감/카운트/합계 증가)
-                        int updated = piggyBankRepository.applyDonation(p.getId(), amount);
-                        if (updated == 0) {
-                            // 경합 등으로 실패 → 합산 제외하고 플래그 복구
-                            log.warn("[WeeklyUniversityDonation] DB applyDonation skipped (piggyId={}, amount={})", p.getId(), amount);
-                            usersRepository.markDonationReadyIfReached(u.getId());
-                            continue;
-                        }
-
-                        // (G) 성공: 합산 (플래그는 선점에서 이미 0이라 추가 조치 없음)
-                        themeSum.compute(catId, (k, v) -> (v == null ? amount : v.add(amount)));
-
-                    } catch (Exception e) {
-                        bw.write(tsPrefix + userName + "님의 " + theme + " 계좌 " + piggyAcc + " 출금 예외: " + e.getMessage());
-                        bw.newLine();
-                        // 복구: 조건 유지 시 다시 ready=1
-                        usersRepository.markDonationReadyIfReached(u.getId());
-                    }
-                }
+    /**
+     * 유저 한 명의 저금통에서 목표금액만큼 출금하고 성공하면 테마 합계에 더한다.
+     * @param retry 이전 시도가 FAILED 로 끝난 항목 — 응답 전에 끊겼으면 출금이 이미 됐을 수 있어 거래내역을 먼저 확인
+     */
+    private void withdrawOne(Long runId, String runKey, Long univId, PiggyBank p, boolean retry,
+                             LocalDate weekMon, LocalDate weekSun, String weekTag,
+                             Map<Integer, BigDecimal> themeSum, BatchRunReport report) {
+        Users u = p.getOwner();
+        String piggyAcc = Optional.ofNullable(p.getAccountNo()).orElse("N/A");
+        int catId = themeId(p.getEsgCategory());
+        BigDecimal amount = nvl(p.getTargetAmount());
+        String itemKey = piggyItemKey(p.getId());
+
+        // (A) 선점(락): donation_ready=1 -> 0 으로 바꿔서 내가 처리권 확보
+        if (!piggyBankWriterService.acquireDonationSlot(u.getId())) {
+            // 이미 다른 워커/서버가 처리 중이거나 방금 처리 완료됨
+            auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_SKIPPED, univId, u, p, catId, null, "slot not acquired");
+            jobRunService.recordItem(runId, itemKey, JobRunItemStatus.SKIPPED, 0L, null, "slot not acquired");
+            report.skipped();
+            return;
+        }
+
+        // (B) 안전 가드: 실제 잔액이 target보다 작아졌다면 스킵
+        if (nvl(p.getCurrentAmount()).compareTo(amount) < 0) {
+            auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_SKIPPED, univId, u, p, catId, amount.longValue(),
+                    "insufficient balance (current=" + nvl(p.getCurrentAmount()).stripTrailingZeros().toPlainString() + ")");
+            // 선점으로 donation_ready는 이미 0이므로 추가 조치 불필요
+            jobRunService.recordItem(runId, itemKey, JobRunItemStatus.SKIPPED, 0L, null, "insufficient balance");
+            report.skipped();
+            return;
+        }
+
+        // (C) userKey 복호화
+        final String userKey;
+        try {
+            if (isBlank(u.getUserKey())) {
+                auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_SKIPPED, univId, u, p, catId, null, "no userKey");
+                // 실패이긴 하지만 조건이 아직 충족이면 다시 ready로(선택: 여기선 굳이 안 올림)
+                jobRunService.recordItem(runId, itemKey, JobRunItemStatus.SKIPPED, 0L, null, "no userKey");
+                report.skipped();
+                return;
+            }
+            userKey = encryptionService.decrypt(u.getUserKey());
+        } catch (Exception e) {
+            auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_FAILED, univId, u, p, catId, null, "decrypt failed");
+            // 복구: 조건 유지 시 다시 ready=1
+            piggyBankWriterService.releaseDonationSlot(u.getId());
+            jobRunService.recordItem(runId, itemKey, JobRunItemStatus.FAILED, 0L, null, "decrypt failed");
+            report.failed();
+            return;
+        }
 
-                // 5-2) 대학×테마 합산 송금
-                for (Map.Entry<Integer, BigDecimal> tsEntry : themeSum.entrySet()) {
-                    int catId = tsEntry.getKey();
-                    BigDecimal sum = nvl(tsEntry.getValue());
-                    if (sum.compareTo(BigDecimal.ZERO) <= 0) continue;
-
-                    String toAccount = resolveThemeAccount(univ, catId);
-                    if (isBlank(toAccount)) {
-                        bw.write(tsPrefix + univName + " " + themeName(catId) + " 계좌 미설정 — 송금 생략 (합계 " +
-                                sum.stripTrailingZeros().toPlainString() + ")");
-                        bw.newLine();
-                        continue;
-                    }
-
-                    String summary = "[TIGGLE][DONATION][UNIV:" + univ.getId() + "][THEME:" + themeName(catId) + "]"
-                            + weekTag + " 주간 합산 송금";
-                    String memo = univName + " " + themeName(catId) + " 테마 주간 합산 송금("
-                            + weekMon.format(YMD) + "~" + weekSun.format(YMD) + ")";
-                    try {
-                        var trResp = financialApiService.updateDemandDepositAccountTransfer(
-                                settlementUserKey, toAccount, summary,
-                                sum.stripTrailingZeros().toPlainString(),
-                                settlementAccountNo, memo
-                        ).block();
-
-                        boolean ok = trResp != null && trResp.getHeader() != null
-                                && "H0000".equals(trResp.getHeader().getResponseCode());
-                        if (ok) {
-                            bw.write(tsPrefix + univName + " " + themeName(catId) + " 계좌로 총 "
-                                    + sum.stripTrailingZeros().toPlainString() + "원" + " 송금 완료");
-                            bw.newLine();
-                        } else {
-                            String msg = (trResp == null || trResp.getHeader() == null)
-                                    ? "no response/header" : trResp.getHeader().getResponseMessage();
-                            bw.write(tsPrefix + univName + " " + themeName(catId) + " 계좌 송금 실패: "
-                                    + msg + " (합계 " + sum.stripTrailingZeros().toPlainString() + ")");
-                            bw.newLine();
-                        }
-                    } catch (Exception e) {
-                        bw.write(tsPrefix + univName + " " + themeName(catId) + " 계좌 송금 예외: " + e.getMessage());
-                        bw.newLine();
-                    }
+        // (D) 출금 수행 (저금통 계좌에서 target만큼)
+        String summary = "[TIGGLE][DONATION][WD][UID:" + u.getId() + "]" + weekTag + " 주간 자동 기부 출금";
+        try {
+            // 재시도: 이전 시도의 출금이 실제로 됐는지 저금통 거래내역의 이번 주 출금 태그로 확인 (됐으면 다시 출금하지 않음)
+            if (retry && alreadyWithdrawn(userKey, piggyAcc, u.getId(), weekMon, weekSun, weekTag)) {
+                log.info("[WeeklyUniversityDonation] withdrawal already made this week — resume userId={}, weekTag={}", u.getId(), weekTag);
+            } else {
+                var wdResp = financialApiService
+                        .updateDemandDepositAccountWithdrawal(userKey, piggyAcc,
+                                amount.stripTrailingZeros().toPlainString(), summary)
+                        .contextWrite(FinancialApiPriority.batch())
+                        .block();
+
+                boolean ok = wdResp != null && wdResp.getHeader() != null
+                        && "H0000".equals(wdResp.getHeader().getResponseCode());
+                if (!ok) {
+                    String msg = (wdResp == null || wdResp.getHeader() == null)
+                            ? "no response/header" : wdResp.getHeader().getResponseMessage();
+                    auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_FAILED, univId, u, p, catId, amount.longValue(),
+                            "withdrawal rejected: " + msg);
+                    // 복구: 조건 유지 시 다시 ready=1
+                    piggyBankWriterService.releaseDonationSlot(u.getId());
+                    jobRunService.recordItem(runId, itemKey, JobRunItemStatus.FAILED, 0L, null, "withdrawal rejected: " + msg);
+                    report.failed();
+                    return;
                 }
-            } catch (IOException e) {
-                log.warn("[WeeklyUniversityDonation] write file failed {}: {}", file, e.getMessage());
             }
+
+            // (E) DB 반영(원자적 차감/카운트/합계 증가)
+            if (!piggyBankWriterService.applyDonation(p.getId(), amount)) {
+                // 출금은 이미 됐으므로 테마 합계에 넣고 DONE 으로 남긴다 (선점 유지 → 재시도에서 다시 출금하지 않음)
+                // 저금통 잔액/카운트만 반영되지 않았으므로 감사 로그의 사유로 수동 확인
+                log.warn("[WeeklyUniversityDonation] DB applyDonation skipped after withdrawal (piggyId={}, amount={}) — needs review",
+                        p.getId(), amount);
+                themeSum.merge(catId, amount, BigDecimal::add);
+                auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_DONE, univId, u, p, catId, amount.longValue(),
+                        "applyDonation skipped — piggy balance needs review");
+                jobRunService.recordItem(runId, itemKey, JobRunItemStatus.DONE, amount.longValue(), String.valueOf(catId),
+                        "applyDonation skipped — piggy balance needs review");
+                report.processed(amount.longValue());
+                return;
+            }
+
+            // (F) 성공: 합산 (플래그는 선점에서 이미 0이라 추가 조치 없음)
+            //     테마별 금액을 같이 남겨 재개 시 합계를 복원
+            themeSum.merge(catId, amount, BigDecimal::add);
+            auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_DONE, univId, u, p, catId, amount.longValue(), null);
+            jobRunService.recordItem(runId, itemKey, JobRunItemStatus.DONE, amount.longValue(), String.valueOf(catId), null);
+            report.processed(amount.longValue());
+
+        } catch (Exception e) {
+            // 타임아웃 등은 출금 여부를 알 수 없다 → FAILED 로 남기고, 재시도 때 거래내역으로 확인한 뒤에만 출금
+            auditWithdraw(runKey, DonationAuditEvent.Type.WITHDRAW_FAILED, univId, u, p, catId, amount.longValue(), e.getMessage());
+            // 복구: 조건 유지 시 다시 ready=1
+            piggyBankWriterService.releaseDonationSlot(u.getId());
+            jobRunService.recordItem(runId, itemKey, JobRunItemStatus.FAILED, 0L, null, e.getMessage());
+            report.failed();
         }
+    }
+
+    /** 저금통 계좌에 이번 주 이 유저의 기부 출금이 있는지 (원장을 최신 거래까지 동기화한 뒤 조회) */
+    private boolean alreadyWithdrawn(String userKey, String piggyAcc, Long userId, LocalDate weekMon, LocalDate weekSun, String weekTag) {
+        List<InquireTransactionHistoryListREC> rows = transactionLedgerService
+                .getFreshHistory(userKey, piggyAcc, weekMon, weekSun, "ASC")
+                .defaultIfEmpty(List.of())
+                .block();
+        return rows != null && rows.stream().anyMatch(r -> isDonationWithdrawalTx(r, userId, weekTag));
+    }
 
-        log.info("[WeeklyUniversityDonation] END");
+    private static boolean isDonationWithdrawalTx(InquireTransactionHistoryListREC r, Long userId, String weekTag) {
+        // 출금만 대상
+        String t = Optional.ofNullable(r.getTransactionType()).orElse("");
+        String n = Optional.ofNullable(r.getTransactionTypeName()).orElse("");
+        boolean withdrawal = "W".equalsIgnoreCase(t) || "2".equals(t) || n.contains("출금");
+        if (!withdrawal) return false;
+
+        String s = Optional.ofNullable(r.getTransactionSummary()).orElse("");
+        String m = Optional.ofNullable(r.getTransactionMemo()).orElse("");
+        String tag = "[WD][UID:" + userId + "]";
+        return (s.contains(tag) || m.contains(tag)) && (s.contains(weekTag) || m.contains(weekTag));
     }
 
+    private void auditWithdraw(String runKey, DonationAuditEvent.Type type, Long univId, Users u, PiggyBank p,
+                               int catId, Long amount, String reason) {
+        audit(runKey, type, univId, u.getId(), p.getId(), themeName(catId), p.getAccountNo(), amount, reason);
+    }
+
+    /** 감사 로그는 큐에만 넣고 반환 (DB 저장은 DonationAuditLog 의 writer 스레드가 묶어서 처리) */
+    private void audit(String runKey, DonationAuditEvent.Type type, Long univId, Long userId, Long piggyId,
+                       String theme, String accountNo, Long amount, String reason) {
+        auditLog.append(new DonationAuditEvent(
+                OffsetDateTime.now(KST).toString(), runKey, type, univId, userId, piggyId, theme,
+                DonationAuditLog.maskAccount(accountNo), amount, reason));
+    }
+
+    private static String piggyItemKey(Long piggyId) { return "P:" + piggyId; }
+    private static String themeItemKey(int themeId) { return "T:" + themeId; }
+
     private Users resolveSettlementUser() {
         if (!isBlank(SETTLEMENT_USER_EMAIL))
             return usersRepository.findByEmail(SETTLEMENT_USER_EMAIL).orElse(null);
@@ -268,12 +482,6 @@ public class WeeklyUniversityDonationScheduler {
     private static boolean isBlank(String s) { return s == null || s.isBlank(); }
     private static BigDecimal nvl(BigDecimal v) { return v == null ? BigDecimal.ZERO : v; }
 
-    private static String toSafeFileName(String s) {
-        String n = Normalizer.normalize(s, Normalizer.Form.NFKC);
-        n = n.replaceAll("[\\\\/:*?\"<>|]", "_").replaceAll("\\s+", "_");
-        return n;
-    }
-
     private static int themeId(EsgCategory cat) {
         if (cat == null || cat.getName() == null) return 0;
         String n = cat.getName().trim().toLowerCase();
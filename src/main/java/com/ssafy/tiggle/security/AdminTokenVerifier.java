@@ -0,0 +1,33 @@
+package com.ssafy.tiggle.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자용 API 토큰 확인. 관리자 권한 체계가 없어 JWT 대신 X-Admin-Token 헤더를 admin.api-token 과 비교한다.
+ * admin.api-token 이 비어 있으면 관리자용 API 전체가 비활성화된다.
+ */
+@Component
+public class AdminTokenVerifier {
+
+    public static final String TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${admin.api-token:}")
+    private String adminToken;
+
+    public void verify(String token) {
+        if (adminToken == null || adminToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 API 가 비활성화되어 있습니다.");
+        }
+        // 길이/내용에 따른 시간 차이가 없도록 상수 시간 비교
+        if (token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "관리자 토큰이 올바르지 않습니다.");
+        }
+    }
+}
@@ -24,7 +24,5 @@ public interface AccountService {
 
     Mono<Void> transferTiggleToPiggy(String encryptedUserKey, Long userId, Long dutchpayId, long tiggleAmount);
 
-    Mono<Void> transferTiggleIfPayMore(String encryptedUserKey, Long userId, Long dutchpayId, long originalAmount, boolean payMoreSelected);
-
     Mono<Void> payDutchShare(String encryptedUserKey, Long dutchpayId, Long userId, boolean payMore);
 }
\ No newline at end of file
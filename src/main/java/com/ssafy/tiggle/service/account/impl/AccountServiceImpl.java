@@ -18,6 +18,7 @@ import com.ssafy.tiggle.repository.user.StudentRepository;
 import com.ssafy.tiggle.service.account.AccountService;
 import com.ssafy.tiggle.service.account.AccountVerificationTokenService;
 import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
 import com.ssafy.tiggle.service.notification.FcmService;
 import com.ssafy.tiggle.service.piggybank.PiggyBankWriterService;
 import com.ssafy.tiggle.service.security.EncryptionService;
@@ -51,6 +52,7 @@ public class AccountServiceImpl implements AccountService {
     private final PiggyBankWriterService piggyBankWriterService;
     private final DutchpayRepository dutchpayRepo;
     private final DutchpayShareRepository shareRepo;
+    private final TransactionLedgerService transactionLedgerService;
 
     private static record LinkedAccounts(String userKey, String primaryAccountNo, String piggyAccountNo) {}
 
@@ -202,42 +204,32 @@ public class AccountServiceImpl implements AccountService {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusMonths(3);
         
-        String startDateStr = startDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String endDateStr = endDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        
-        return financialApiService.inquireTransactionHistoryList(
-                userKey, accountNo, startDateStr, endDateStr, "A", sort)
-                .flatMap(response -> {
-                    if (response.getHeader() != null && "H0000".equals(response.getHeader().getResponseCode())) {
-                        List<TransactionDto> allTransactions = response.getRec().getList().stream()
-                                .map(this::convertToTransactionDto)
-                                .collect(Collectors.toList());
-                        
-                        // Cursor 기반 필터링 및 페이징
-                        List<TransactionDto> filteredTransactions = applyCursorAndPaging(allTransactions, cursor, size, sort);
-                        
-                        // 다음 커서 계산
-                        String nextCursor = null;
-                        boolean hasNext = false;
-                        
-                        if (!filteredTransactions.isEmpty()) {
-                            TransactionDto lastTransaction = filteredTransactions.get(filteredTransactions.size() - 1);
-                            nextCursor = lastTransaction.getTransactionId();
-                            
-                            // 다음 페이지가 있는지 확인
-                            hasNext = checkHasNext(allTransactions, nextCursor, sort);
-                        }
-                        
-                        TransactionHistoryResponse historyResponse = new TransactionHistoryResponse(
-                                filteredTransactions, nextCursor, hasNext, filteredTransactions.size());
+        // 원장(ledger)에서 조회: 외부 API는 워터마크 이후 증분만 호출
+        return transactionLedgerService.getHistory(userKey, accountNo, startDate, endDate, sort)
+                .flatMap(rows -> {
+                    List<TransactionDto> allTransactions = rows.stream()
+                            .map(this::convertToTransactionDto)
+                            .collect(Collectors.toList());
+                    
+                    // Cursor 기반 필터링 및 페이징
+                    List<TransactionDto> filteredTransactions = applyCursorAndPaging(allTransactions, cursor, size, sort);
+                    
+                    // 다음 커서 계산
+                    String nextCursor = null;
+                    boolean hasNext = false;
+                    
+                    if (!filteredTransactions.isEmpty()) {
+                        TransactionDto lastTransaction = filteredTransactions.get(filteredTransactions.size() - 1);
+                        nextCursor = lastTransaction.getTransactionId();
                         
-                        return Mono.just(ApiResponse.success(historyResponse));
-                    } else {
-                        String errorMessage = response.getHeader() != null 
-                                ? response.getHeader().getResponseMessage() 
-                                : "거래 내역 조회 중 오류가 발생했습니다.";
-                        return Mono.error(AccountException.accountNotFound());
+                        // 다음 페이지가 있는지 확인
+                        hasNext = checkHasNext(allTransactions, nextCursor, sort);
                     }
+                    
+                    TransactionHistoryResponse historyResponse = new TransactionHistoryResponse(
+                            filteredTransactions, nextCursor, hasNext, filteredTransactions.size());
+                    
+                    return Mono.just(ApiResponse.success(historyResponse));
                 })
                 .onErrorResume(throwable -> {
                     if (throwable instanceof AccountException) {
@@ -344,14 +336,6 @@ public class AccountServiceImpl implements AccountService {
         }
     }
 
-    @Override
-    public Mono<Void> transferTiggleIfPayMore(String encryptedUserKey, Long userId, Long dutchpayId, long originalAmount, boolean payMoreSelected) {
-        if (!payMoreSelected) return Mono.empty();
-        long tiggle = calcTiggle(originalAmount);
-        if (tiggle <= 0) return Mono.empty();
-        return transferTiggleToPiggy(encryptedUserKey, userId, dutchpayId, tiggle);
-    }
-
     @Override
     public Mono<Void> transferTiggleToPiggy(String encryptedUserKey, Long userId, Long dutchpayId, long tiggleAmount) {
         if (tiggleAmount <= 0) return Mono.empty();
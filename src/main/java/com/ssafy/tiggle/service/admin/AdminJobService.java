@@ -0,0 +1,21 @@
+package com.ssafy.tiggle.service.admin;
+
+import com.ssafy.tiggle.dto.admin.response.AdminJobProgressResponse;
+import reactor.core.publisher.Flux;
+
+public interface AdminJobService {
+
+    enum Job {
+        AUTO_SAVING,            // 주간 자동 저축
+        UNIVERSITY_DONATION,    // 주간 저금통 -> 학교 기부
+        THEME_DONATION          // 학교 -> 기부단체 송금
+    }
+
+    // 배치를 비동기로 시작하고 첫 진행 상황 반환 (같은 작업이 이 인스턴스에서 실행 중이거나, round-up 모드에서 AUTO_SAVING 이면 409)
+    AdminJobProgressResponse start(Job job, boolean dryRun);
+
+    AdminJobProgressResponse getProgress(String runId);
+
+    // 끝날 때까지 주기적으로 진행 상황 발행 (마지막 원소는 종료 상태)
+    Flux<AdminJobProgressResponse> streamProgress(String runId);
+}
@@ -0,0 +1,164 @@
+package com.ssafy.tiggle.service.admin;
+
+import com.ssafy.tiggle.dto.admin.response.AdminJobProgressResponse;
+import com.ssafy.tiggle.scheduler.BatchRunReport;
+import com.ssafy.tiggle.scheduler.DonationScheduler;
+import com.ssafy.tiggle.scheduler.WeeklyAutoSavingScheduler;
+import com.ssafy.tiggle.scheduler.WeeklyUniversityDonationScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주간 배치를 관리자 요청으로 실행 (실패한 주 재실행, dry-run 미리보기).
+ * - 실제 실행은 스케줄러와 같은 경로라 체크포인트/리스를 그대로 따른다: 끝난 파티션/항목은 건너뛰고 남은 것만 이어서 처리.
+ * - dry-run 은 대상과 금액만 계산하고 이체, 저금통 반영, 체크포인트 기록을 하지 않는다.
+ * - 진행 상황은 이 인스턴스 메모리에만 있으므로 조회/구독도 실행을 시작한 인스턴스로 해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminJobServiceImpl implements AdminJobService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final WeeklyAutoSavingScheduler weeklyAutoSavingScheduler;
+    private final WeeklyUniversityDonationScheduler weeklyUniversityDonationScheduler;
+    private final DonationScheduler donationScheduler;
+
+    private final Map<String, AdminRun> runs = new ConcurrentHashMap<>();
+
+    // SSE 진행 상황 발행 주기
+    @Value("${admin.jobs.progress-interval-ms:1000}")
+    private long progressIntervalMs;
+
+    // 끝난 실행을 메모리에 남겨 두는 시간
+    @Value("${admin.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Override
+    public AdminJobProgressResponse start(Job job, boolean dryRun) {
+        // 스케줄 실행과 같은 모드 가드 (round-up 모드에서 주간 일괄 저축을 돌리면 이중 저축)
+        if (job == Job.AUTO_SAVING && !weeklyAutoSavingScheduler.isWeeklyMode()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "auto-saving.mode=round-up 에서는 주간 자동 저축을 실행할 수 없습니다.");
+        }
+        evictExpired();
+        AdminRun run = new AdminRun(UUID.randomUUID().toString(), job, dryRun, new BatchRunReport(job.name()));
+        synchronized (runs) {
+            boolean running = runs.values().stream()
+                    .anyMatch(r -> r.job == job && r.status == AdminJobProgressResponse.Status.RUNNING);
+            if (running) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 실행 중인 작업입니다: " + job);
+            }
+            runs.put(run.runId, run);
+        }
+
+        log.info("[AdminJob] start job={}, dryRun={}, runId={}", job, dryRun, run.runId);
+        Mono.fromRunnable(() -> execute(run))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+        return run.snapshot();
+    }
+
+    @Override
+    public AdminJobProgressResponse getProgress(String runId) {
+        return find(runId).snapshot();
+    }
+
+    @Override
+    public Flux<AdminJobProgressResponse> streamProgress(String runId) {
+        AdminRun run = find(runId);
+        return Flux.interval(Duration.ZERO, Duration.ofMillis(Math.max(100, progressIntervalMs)))
+                .map(tick -> run.snapshot())
+                .takeUntil(AdminJobProgressResponse::finished);
+    }
+
+    private void execute(AdminRun run) {
+        try {
+            boolean ran = switch (run.job) {
+                case AUTO_SAVING -> {
+                    weeklyAutoSavingScheduler.sweep(run.dryRun, run.report);
+                    yield true;
+                }
+                case UNIVERSITY_DONATION -> {
+                    weeklyUniversityDonationScheduler.run(run.dryRun, run.report);
+                    yield true;
+                }
+                case THEME_DONATION -> {
+                    if (run.dryRun) {
+                        donationScheduler.run(true, run.report);
+                        yield true;
+                    }
+                    yield donationScheduler.runExclusive(run.report);
+                }
+            };
+            run.finish(ran ? AdminJobProgressResponse.Status.COMPLETED : AdminJobProgressResponse.Status.SKIPPED, null);
+        } catch (RuntimeException e) {
+            log.warn("[AdminJob] job={} runId={} failed: {}", run.job, run.runId, e.toString(), e);
+            run.finish(AdminJobProgressResponse.Status.FAILED, e.getMessage());
+        }
+        log.info("[AdminJob] end job={}, runId={}, status={}, {}", run.job, run.runId, run.status, run.report);
+    }
+
+    private AdminRun find(String runId) {
+        AdminRun run = runs.get(runId);
+        if (run == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "실행 정보를 찾을 수 없습니다.");
+        }
+        return run;
+    }
+
+    private void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(KST).minusMinutes(retentionMinutes);
+        runs.values().removeIf(r -> r.finishedAt != null && r.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class AdminRun {
+
+        private final String runId;
+        private final Job job;
+        private final boolean dryRun;
+        private final BatchRunReport report;
+        private volatile AdminJobProgressResponse.Status status = AdminJobProgressResponse.Status.RUNNING;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private AdminRun(String runId, Job job, boolean dryRun, BatchRunReport report) {
+            this.runId = runId;
+            this.job = job;
+            this.dryRun = dryRun;
+            this.report = report;
+        }
+
+        private void finish(AdminJobProgressResponse.Status status, String error) {
+            report.finish();
+            this.error = error;
+            this.finishedAt = LocalDateTime.now(KST);
+            this.status = status;
+        }
+
+        private AdminJobProgressResponse snapshot() {
+            Duration eta = report.getEta();
+            return new AdminJobProgressResponse(
+                    runId, job.name(), dryRun, status,
+                    report.getProcessed(), report.getSkipped(), report.getFailed(), report.getAmount(),
+                    report.getTotal(), report.getExpected(), report.getItemsPerSecond(),
+                    eta == null ? null : eta.toSeconds(),
+                    report.getDuration().toSeconds(),
+                    error);
+        }
+    }
+}
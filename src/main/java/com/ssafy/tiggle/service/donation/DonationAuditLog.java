@@ -0,0 +1,133 @@
+package com.ssafy.tiggle.service.donation;
+
+import com.ssafy.tiggle.dto.donation.response.DonationAuditEvent;
+import com.ssafy.tiggle.entity.DonationAuditRecord;
+import com.ssafy.tiggle.repository.donation.DonationAuditRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 기부 감사 로그 (append-only, donation_audit_event 표).
+ * - append 는 큐에 넣기만 하고 바로 반환한다. 전용 스레드 하나가 묶음 단위로 한 트랜잭션에 저장한다.
+ *   id 가 IDENTITY 라 Hibernate 가 JDBC 배치를 쓰지 못해 INSERT 는 이벤트마다 한 번씩 나간다 —
+ *   묶음으로 줄어드는 것은 트랜잭션/커밋 횟수이고, 출금 스레드가 DB 저장을 기다리지 않는 것이 주 목적이다.
+ * - 모든 노드가 같은 표에 쌓으므로 어느 노드에서 조회해도 같은 결과이고,
+ *   조회는 (주, 유저) / (주, 대학) 인덱스로 해당 이벤트만 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationAuditLog {
+
+    private final DonationAuditRecordRepository auditRecordRepository;
+
+    @Value("${donation-audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 한 트랜잭션에 저장할 최대 건수
+    @Value("${donation-audit.batch-size:500}")
+    private int batchSize;
+
+    // 큐가 비어 있을 때 대기 시간 (이 시간마다 쌓인 만큼 기록)
+    @Value("${donation-audit.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    // 큐가 가득 찼을 때 생산자가 기다리는 최대 시간 (넘으면 애플리케이션 로그로만 남김)
+    @Value("${donation-audit.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<DonationAuditEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        running = true;
+        writer = new Thread(this::drainLoop, "donation-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // 저장 중인 JDBC 호출을 끊지 않도록 플래그만 내리고 poll 타임아웃으로 빠져나오게 둔다
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10)); // 남은 이벤트까지 기록하고 종료
+    }
+
+    /** 감사 이벤트 기록 요청 (비동기). 호출 스레드에서 DB 저장은 하지 않는다 */
+    public void append(DonationAuditEvent event) {
+        try {
+            if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("[DonationAudit] queue full — dropped to app log: {}", event);
+    }
+
+    /**
+     * 한 주의 감사 이벤트 조회 (기록 순). userId / universityId 가 null 이면 해당 조건은 보지 않는다.
+     * 아직 큐에 남아 있는 (기록 전) 이벤트는 포함되지 않는다.
+     */
+    public List<DonationAuditEvent> find(String week, Long userId, Long universityId, int limit) {
+        Pageable page = PageRequest.of(0, Math.max(1, limit));
+        List<DonationAuditRecord> records;
+        if (userId != null && universityId != null) {
+            records = auditRecordRepository.findByWeekAndUserIdAndUniversityIdOrderByIdAsc(week, userId, universityId, page);
+        } else if (userId != null) {
+            records = auditRecordRepository.findByWeekAndUserIdOrderByIdAsc(week, userId, page);
+        } else if (universityId != null) {
+            records = auditRecordRepository.findByWeekAndUniversityIdOrderByIdAsc(week, universityId, page);
+        } else {
+            records = auditRecordRepository.findByWeekOrderByIdAsc(week, page);
+        }
+        return records.stream()
+                .map(DonationAuditRecord::toEvent)
+                .toList();
+    }
+
+    /** 계좌번호는 앞 3자리/뒤 4자리만 남긴다 */
+    public static String maskAccount(String accountNo) {
+        if (accountNo == null || accountNo.length() <= 7) return accountNo;
+        return accountNo.substring(0, 3) + "*".repeat(accountNo.length() - 7) + accountNo.substring(accountNo.length() - 4);
+    }
+
+    private void drainLoop() {
+        List<DonationAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                DonationAuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue; // 남은 이벤트를 비울 때까지 루프 유지
+            }
+            queue.drainTo(batch, Math.max(1, batchSize) - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /** 묶음을 한 트랜잭션으로 저장 (INSERT 는 건별, 실패하면 애플리케이션 로그로만 남김) */
+    private void writeBatch(List<DonationAuditEvent> batch) {
+        try {
+            auditRecordRepository.saveAll(batch.stream().map(DonationAuditRecord::of).toList());
+        } catch (RuntimeException e) {
+            log.warn("[DonationAudit] write failed ({} events): {}", batch.size(), e.getMessage());
+            batch.forEach(ev -> log.warn("[DonationAudit] lost: {}", ev));
+        }
+    }
+}
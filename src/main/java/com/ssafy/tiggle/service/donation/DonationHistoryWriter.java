@@ -0,0 +1,52 @@
+package com.ssafy.tiggle.service.donation;
+
+import com.ssafy.tiggle.entity.DonationHistory;
+import com.ssafy.tiggle.entity.DonationRollupScope;
+import com.ssafy.tiggle.entity.Users;
+import com.ssafy.tiggle.repository.donation.DonationDailyRollupRepository;
+import com.ssafy.tiggle.repository.donation.DonationHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/** 기부내역 저장과 일별 집계(유저/학과/학교) 반영을 한 트랜잭션으로 커밋 */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationHistoryWriter {
+
+    private final DonationHistoryRepository donationHistoryRepository;
+    private final DonationDailyRollupRepository rollupRepository;
+
+    /** @param history user 의 학교/학과가 로딩되어 있어야 함 */
+    @Transactional
+    public DonationHistory save(DonationHistory history) {
+        DonationHistory saved = donationHistoryRepository.save(history);
+
+        Users user = history.getUser();
+        LocalDate day = history.getDonatedAt().toLocalDate();
+        Long categoryId = history.getEsgCategory().getId();
+        rollupRepository.add(day, DonationRollupScope.USER.name(), user.getId(), categoryId, history.getAmount());
+        rollupRepository.add(day, DonationRollupScope.DEPARTMENT.name(), user.getDepartment().getId(), categoryId, history.getAmount());
+        rollupRepository.add(day, DonationRollupScope.UNIVERSITY.name(), user.getUniversity().getId(), categoryId, history.getAmount());
+        return saved;
+    }
+
+    /**
+     * 집계 표를 기부내역 전체에서 다시 만든다 (도입 시 기존 내역 채우기 / 수동 보정).
+     * 한 트랜잭션에서 지우고 다시 채우며, INSERT ... SELECT 는 기부내역을 잠금 읽기하므로
+     * 그동안 들어오는 기부는 재집계가 커밋된 뒤에 더해진다 (중복/누락 없음).
+     */
+    @Transactional
+    public int rebuildRollups() {
+        rollupRepository.deleteAllRows();
+        int rows = rollupRepository.rebuildUserRows()
+                + rollupRepository.rebuildDepartmentRows()
+                + rollupRepository.rebuildUniversityRows();
+        log.info("[DonationRollup] rebuilt {} rows from donation_history", rows);
+        return rows;
+    }
+}
@@ -1,48 +1,239 @@
 package com.ssafy.tiggle.service.donation;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DonationRankingStore {
     private final StringRedisTemplate redisTemplate;
 
-    public void saveUniversityRanking(List<Object[]> results) {
-        ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
-        String key = "donation:university";
-        redisTemplate.delete(key);
-        for (Object[] row : results) {
-            String universityName = (String) row[0];
-            Double total = ((BigDecimal) row[1]).doubleValue();
-            zset.add(key, universityName, total);
+    private static final String UNIVERSITY_KEY = "donation:university";
+    private static final String DEPARTMENT_KEY_PREFIX = "donation:department:";
+    // 랭킹 키별 마지막 정합성 점검 시각 (epoch ms). 없으면 아직 채워지지 않은(cold) 랭킹
+    private static final String SYNCED_AT_KEY = "donation:ranking:synced-at";
+
+    // 금액은 소수 2자리까지라 이보다 작은 차이는 같은 값 (부동소수 오차)
+    private static final double SCORE_EPSILON = 0.001;
+    // 보정 스크립트 한 번에 보낼 최대 항목 수
+    private static final int REPAIR_BATCH = 500;
+
+    /**
+     * 랭킹 보정 (키 하나, 스크립트라 원자적으로 적용 — 조회 중에 일부만 바뀐 랭킹이 보이지 않음).
+     * ARGV 는 (항목, 점검 전에 읽은 점수, DB 합계) 반복이며 빈 문자열은 "없음".
+     * 지금 점수가 점검 전에 읽은 점수와 같을 때만 DB 합계로 바꾼다 — 그 사이 ZINCRBY 가 들어온 항목은
+     * DB 합계보다 최신일 수 있으므로 건드리지 않고 다음 점검에 맡긴다.
+     */
+    private static final String REPAIR_SCRIPT = """
+            local eps = tonumber(ARGV[1])
+            local fixed = 0
+            for i = 2, #ARGV, 3 do
+              local member, seen, want = ARGV[i], ARGV[i + 1], ARGV[i + 2]
+              local cur = redis.call('ZSCORE', KEYS[1], member)
+              local unchanged
+              if seen == '' then unchanged = (not cur)
+              else unchanged = cur and math.abs(tonumber(cur) - tonumber(seen)) < eps end
+              if unchanged then
+                if want == '' then
+                  if cur then redis.call('ZREM', KEYS[1], member); fixed = fixed + 1 end
+                else
+                  redis.call('ZADD', KEYS[1], want, member); fixed = fixed + 1
+                end
+              end
+            end
+            return fixed
+            """;
+
+    /** 정합성 점검 전에 학교 랭킹 현재 값을 읽어 둔다 (DB 합계 조회보다 먼저) */
+    public Map<String, Double> readUniversityRanking() {
+        return toScores(redisTemplate.opsForZSet().rangeWithScores(UNIVERSITY_KEY, 0, -1));
+    }
+
+    /** 정합성 점검 전에 학교별 학과 랭킹 현재 값을 한 번의 파이프라인으로 읽어 둔다 */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Map<String, Double>> readDepartmentRankings(List<Long> universityIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            universityIds.forEach(universityId -> conn.zRangeWithScores(departmentKey(universityId), 0, -1));
+            return null;
+        });
+        Map<Long, Map<String, Double>> observed = new HashMap<>();
+        for (int i = 0; i < universityIds.size(); i++) {
+            observed.put(universityIds.get(i), toScores((Set<ZSetOperations.TypedTuple<String>>) results.get(i)));
         }
+        return observed;
+    }
+
+    /**
+     * 학교 랭킹을 DB 합계로 보정.
+     *
+     * @param observed {@link #readUniversityRanking()} 으로 DB 조회 전에 읽은 값
+     * @param results  [학교명, 합계] 목록
+     * @return 고친 항목 수
+     */
+    public int saveUniversityRanking(Map<String, Double> observed, List<Object[]> results) {
+        return repair(Map.of(UNIVERSITY_KEY, repairArgs(observed, results)));
     }
 
     public Set<ZSetOperations.TypedTuple<String>> getUniversityRanking() {
         return redisTemplate.opsForZSet()
-                .reverseRangeWithScores("donation:university", 0, 99); // Top 100
+                .reverseRangeWithScores(UNIVERSITY_KEY, 0, 99); // Top 100
     }
 
-    public void saveDepartmentRanking(Long universityId, List<Object[]> results) {
+    /**
+     * 모든 학교의 학과 랭킹을 DB 합계로 보정 (학교별 보정 스크립트와 점검 시각을 한 번의 파이프라인으로 전송).
+     *
+     * @param observed            {@link #readDepartmentRankings} 로 DB 조회 전에 읽은 값
+     * @param resultsByUniversity 학교 id → [학과명, 합계] 목록. 기부가 없는 학교는 빈 목록 (랭킹 항목 삭제)
+     * @return 고친 항목 수
+     */
+    public int saveDepartmentRankings(Map<Long, Map<String, Double>> observed, Map<Long, List<Object[]>> resultsByUniversity) {
+        Map<String, List<String>> argsByKey = new LinkedHashMap<>();
+        resultsByUniversity.forEach((universityId, rows) ->
+                argsByKey.put(departmentKey(universityId), repairArgs(observed.getOrDefault(universityId, Map.of()), rows)));
+        return repair(argsByKey);
+    }
+
+    public Set<ZSetOperations.TypedTuple<String>> getDepartmentRanking(Long universityId) {
+        return redisTemplate.opsForZSet()
+                .reverseRangeWithScores(departmentKey(universityId), 0, 99);
+    }
+
+    /**
+     * 학교 순위 (동점은 같은 순위, SQL RANK() 와 동일). ZREVRANK 는 동점을 사전순으로 나눠 세므로
+     * 점수가 더 높은 항목 수(ZCOUNT)로 보정한다 — ZSCORE + ZCOUNT 모두 O(log n).
+     *
+     * @return 랭킹에 없으면(기부 없음) null
+     */
+    public Integer getUniversityRank(String universityName) {
         ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
-        String key = "donation:department:" + universityId.toString();
-        redisTemplate.delete(key);
+        Double score = zset.score(UNIVERSITY_KEY, universityName);
+        if (score == null) return null;
+        // 금액은 소수 2자리까지라 반 단위 위부터 세면 동점(부동소수 오차 포함)은 제외됨
+        Long higher = zset.count(UNIVERSITY_KEY, score + 0.005, Double.POSITIVE_INFINITY);
+        return (higher == null ? 0 : higher.intValue()) + 1;
+    }
+
+    /** @return 학교 랭킹의 마지막 정합성 점검 시각. 한 번도 채워지지 않았으면 null */
+    public Instant getUniversitySyncedAt() {
+        return syncedAt(UNIVERSITY_KEY);
+    }
+
+    public Instant getDepartmentSyncedAt(Long universityId) {
+        return syncedAt(departmentKey(universityId));
+    }
+
+    /**
+     * 기부 1건을 학교/학과 랭킹에 바로 반영 (ZINCRBY 2회를 한 번에 전송).
+     * 랭킹은 기부내역에서 다시 만들 수 있는 값이라 실패해도 기부는 그대로 두고 로그만 남긴다 (정합성 점검 작업이 보정).
+     */
+    public void increment(Long universityId, String universityName, String departmentName, BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) return;
+        double score = amount.doubleValue();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                if (universityName != null) conn.zIncrBy(UNIVERSITY_KEY, score, universityName);
+                if (universityId != null && departmentName != null) conn.zIncrBy(departmentKey(universityId), score, departmentName);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[DonationRanking] increment failed univ={}, dept={}, amount={}: {}",
+                    universityName, departmentName, amount, e.toString());
+        }
+    }
+
+    /** 점검 전 값과 DB 합계가 다른 항목만 골라 보정 스크립트 인자(항목, 점검 전 점수, DB 합계 반복)로 만든다 */
+    private static List<String> repairArgs(Map<String, Double> observed, List<Object[]> results) {
+        Map<String, BigDecimal> expected = new LinkedHashMap<>();
         for (Object[] row : results) {
-            String departmentName = (String) row[0];
-            Double total = ((BigDecimal) row[1]).doubleValue();
-            zset.add(key, departmentName, total);
+            if (row[0] == null || row[1] == null) continue;
+            expected.put((String) row[0], (BigDecimal) row[1]);
         }
+
+        List<String> args = new ArrayList<>();
+        expected.forEach((member, amount) -> {
+            Double seen = observed.get(member);
+            if (seen == null || Math.abs(seen - amount.doubleValue()) >= SCORE_EPSILON) {
+                args.add(member);
+                args.add(seen == null ? "" : BigDecimal.valueOf(seen).toPlainString());
+                args.add(amount.toPlainString());
+            }
+        });
+        observed.forEach((member, seen) -> {
+            if (!expected.containsKey(member)) {
+                args.add(member);
+                args.add(BigDecimal.valueOf(seen).toPlainString());
+                args.add("");
+            }
+        });
+
+        return args;
     }
 
-    public Set<ZSetOperations.TypedTuple<String>> getDepartmentRanking(Long universityId) {
-        return redisTemplate.opsForZSet()
-                .reverseRangeWithScores("donation:department:" + universityId.toString(), 0, 99);
+    /**
+     * 키별 보정 스크립트와 점검 시각 기록을 한 번의 파이프라인으로 보낸다.
+     * 바뀐 항목이 없는 키는 스크립트 없이 점검 시각만 남긴다 (HMSET 한 번).
+     */
+    private int repair(Map<String, List<String>> argsByKey) {
+        if (argsByKey.isEmpty()) return 0;
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, String> syncedAt = new HashMap<>();
+        argsByKey.keySet().forEach(key -> syncedAt.put(key, now));
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            argsByKey.forEach((key, args) -> {
+                for (int from = 0; from < args.size(); from += REPAIR_BATCH * 3) {
+                    List<String> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(key);
+                    keysAndArgs.add(String.valueOf(SCORE_EPSILON));
+                    keysAndArgs.addAll(args.subList(from, Math.min(args.size(), from + REPAIR_BATCH * 3)));
+                    conn.eval(REPAIR_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs.toArray(new String[0]));
+                }
+            });
+            conn.hMSet(SYNCED_AT_KEY, syncedAt);
+            return null;
+        });
+
+        int fixed = 0;
+        for (Object r : results) {
+            if (r instanceof Long n) fixed += n.intValue();
+        }
+        return fixed;
+    }
+
+    private static Map<String, Double> toScores(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        Map<String, Double> scores = new HashMap<>();
+        if (tuples == null) return scores;
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            if (t.getValue() != null && t.getScore() != null) scores.put(t.getValue(), t.getScore());
+        }
+        return scores;
+    }
+
+    private Instant syncedAt(String key) {
+        Object value = redisTemplate.opsForHash().get(SYNCED_AT_KEY, key);
+        return value == null ? null : Instant.ofEpochMilli(Long.parseLong(value.toString()));
+    }
+
+    private static String departmentKey(Long universityId) {
+        return DEPARTMENT_KEY_PREFIX + universityId.toString();
     }
 }
@@ -4,9 +4,11 @@ import com.ssafy.tiggle.dto.account.response.PrimaryAccountInfoDto;
 import com.ssafy.tiggle.dto.common.ApiResponse;
 import com.ssafy.tiggle.dto.donation.request.DonationRequest;
 import com.ssafy.tiggle.dto.donation.response.*;
+import com.ssafy.tiggle.scheduler.BatchRunReport;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface DonationService {
@@ -27,16 +29,24 @@ public interface DonationService {
 
     DonationSummary getUserDonationSummary(Long userId);
 
-    List<DonationRanking> getUniversityRanking();
+    /** 랭킹 캐시에서 조회 (캐시가 비어 있으면 DB 집계). 결과에 캐시 경과 시간 포함 */
+    DonationRankingResult getUniversityRanking();
 
-    List<DonationRanking> getDepartmentRanking(Long userId);
+    DonationRankingResult getDepartmentRanking(Long userId);
 
-    @Transactional
-    void transferDonations();
+    /**
+     * 학교 -> 단체 주간 송금. 등록한 이체가 끝나면(또는 대기 시간 초과 시) 결과 요약과 함께 완료.
+     * dryRun 이면 단체별 배분 계획만 돌려주고 이체는 등록하지 않는다. progress 에는 학교×테마 단위 진행 상황이 쌓인다.
+     */
+    Mono<DonationTransferReport> transferDonations(boolean dryRun, BatchRunReport progress);
 
-    @Transactional(readOnly = true)
-    void updateRankingCache();
+    /** 랭킹 캐시를 일별 기부 집계 합계와 비교해 어긋난 항목만 보정 (증분 반영 중 어긋난 값). @return 고친 항목 수 */
+    int reconcileRankingCache();
 
     @Transactional
     CharacterLevel useHeart(Long userId);
+
+    List<DonationAuditEvent> getMyDonationAuditEvents(Long userId, LocalDate week);
+
+    List<DonationAuditEvent> getUniversityDonationAuditEvents(Long userId, LocalDate week);
 }
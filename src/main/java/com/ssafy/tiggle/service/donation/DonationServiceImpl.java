@@ -9,13 +9,18 @@ import com.ssafy.tiggle.exception.GlobalExceptionHandler;
 import com.ssafy.tiggle.exception.donation.DonationException;
 import com.ssafy.tiggle.repository.donation.*;
 import com.ssafy.tiggle.repository.esg.EsgCategoryRepository;
+import com.ssafy.tiggle.repository.outbox.TransferOutboxRepository;
 import com.ssafy.tiggle.repository.university.UniversityRepository;
 import com.ssafy.tiggle.repository.user.StudentRepository;
+import com.ssafy.tiggle.scheduler.BatchRunReport;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiPriority;
 import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
 import com.ssafy.tiggle.service.security.EncryptionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,13 +30,24 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -46,11 +62,31 @@ public class DonationServiceImpl implements DonationService {
     private final UniversityRepository universityRepository;
     private final UserCharacterRepository userCharacterRepository;
     private final DonationRankingStore rankingStore;
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final DonationTransferWriter donationTransferWriter;
+    private final DonationAuditLog donationAuditLog;
+    private final DonationHistoryWriter donationHistoryWriter;
+    private final DonationDailyRollupRepository rollupRepository;
 
     private final long LEVEL_AMOUNT = 100;
+    private static final int AUDIT_QUERY_LIMIT = 1000;
+    private static final long MIN_THEME_TRANSFER = 1000;
+
+    // 학교×테마 잔고 조회/이체 등록 동시 실행 수
+    @Value("${donation.transfer.concurrency:4}")
+    private int transferConcurrency;
+
+    // 등록한 단체 이체가 끝날 때까지 기다리는 최대 시간
+    @Value("${donation.transfer.await-timeout-seconds:600}")
+    private long transferAwaitTimeoutSeconds;
+
+    @Value("${donation.transfer.await-poll-ms:2000}")
+    private long transferAwaitPollMs;
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     @Override
     public Mono<ApiResponse<PrimaryAccountInfoDto>> getDonation(Long userId, String encryptedUserKey) {
         return Mono.fromCallable(() -> {
@@ -97,7 +133,7 @@ public class DonationServiceImpl implements DonationService {
                     String userKey = encryptionService.decrypt(encryptedUserKey);
 
                     // 1. 내 계좌 정보 (기부자)
-                    Users user = studentRepository.findByIdWithUniversity(userId)
+                    Users user = studentRepository.findByIdWithUniversityAndDepartment(userId)
                             .orElseThrow(() -> new IllegalArgumentException("기부자 정보를 찾을 수 없습니다."));
 
                     String userAccountNo = user.getPrimaryAccountNo();
@@ -182,10 +218,15 @@ public class DonationServiceImpl implements DonationService {
                                                 .title(request.getCategory().toString())
                                                 .build();
 
-                                        donationHistoryRepository.save(donationHistory);
+                                        // 기부내역 + 일별 집계를 함께 커밋
+                                        donationHistoryWriter.save(donationHistory);
 
                                         logger.info("기부하기 성공");
 
+                                        // 학교/학과 랭킹 즉시 반영
+                                        rankingStore.increment(user.getUniversity().getId(), user.getUniversity().getName(),
+                                                user.getDepartment().getName(), donationHistory.getAmount());
+
                                         // 7. 하트 지급
                                         UserCharacter character = userCharacterRepository.findByUserId(userId)
                                                 .orElseThrow(() -> new IllegalArgumentException("캐릭터가 존재하지 않습니다."));
@@ -223,7 +264,7 @@ public class DonationServiceImpl implements DonationService {
         ));
 
         // 2. DB에서 Projection 결과를 가져와 덮어쓰기
-        donationHistoryRepository.findTotalAmountByCategoryAndUser(userId)
+        rollupRepository.findTotalAmountByCategoryAndUser(userId)
                 .forEach(d -> map.put(d.getCategory(), d.getTotal().longValue()));
 
         // 3. DTO(record) 반환
@@ -252,7 +293,7 @@ public class DonationServiceImpl implements DonationService {
         ));
 
         // 2. DB에서 Projection 결과를 가져와 덮어쓰기
-        donationHistoryRepository.findTotalAmountByCategoryAndUniversity(universityId)
+        rollupRepository.findTotalAmountByCategoryAndUniversity(universityId)
                 .forEach(d -> map.put(d.getCategory(), d.getTotal().longValue()));
 
         // 3. DTO(record) 반환
@@ -273,7 +314,7 @@ public class DonationServiceImpl implements DonationService {
         ));
 
         // 2. DB에서 Projection 결과를 가져와 덮어쓰기
-        donationHistoryRepository.findTotalAmountByCategory()
+        rollupRepository.findTotalAmountByCategory()
                 .forEach(d -> map.put(d.getCategory(), d.getTotal().longValue()));
 
         // 3. DTO(record) 반환
@@ -291,7 +332,7 @@ public class DonationServiceImpl implements DonationService {
                 .orElseThrow(() -> new IllegalArgumentException("캐릭터가 존재하지 않습니다."));
 
         // 총 기부금액 조회
-        BigDecimal totalAmountBD = donationHistoryRepository.findTotalAmountByUserId(userId);
+        BigDecimal totalAmountBD = rollupRepository.findTotalAmountByUserId(userId);
         long totalAmount = totalAmountBD != null ? totalAmountBD.longValue() : 0L;
 
         // 경험치
@@ -309,11 +350,12 @@ public class DonationServiceImpl implements DonationService {
     @Override
     public DonationSummary getUserDonationSummary(Long userId) {
 
-        Users user = studentRepository.findById(userId)
+        Users user = studentRepository.findByIdWithUniversity(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-        SummaryProjection summary = donationHistoryRepository.findDonationSummaryByUserId(userId);
-        Integer universityRank = donationHistoryRepository.findUniversityRank(user.getUniversity().getId());
+        LocalDate monthStart = LocalDate.now(KST).withDayOfMonth(1);
+        SummaryProjection summary = rollupRepository.findDonationSummaryByUserId(userId, monthStart);
+        Integer universityRank = findUniversityRank(user.getUniversity());
 
         return new DonationSummary(
                 summary.getTotalAmount() != null ? summary.getTotalAmount().longValue() : 0L,
@@ -323,22 +365,47 @@ public class DonationServiceImpl implements DonationService {
         );
     }
 
+    // 학교 순위: 랭킹 캐시에서 O(log n) 조회. 캐시가 비었거나 Redis 오류면 같은 규칙(동점 같은 순위)으로 DB 계산
+    private Integer findUniversityRank(University university) {
+        try {
+            if (rankingStore.getUniversitySyncedAt() != null) {
+                return rankingStore.getUniversityRank(university.getName());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("학교 순위 캐시 조회 실패 — DB 집계로 대신합니다: university={}, {}", university.getId(), e.toString());
+        }
+
+        BigDecimal total = rollupRepository.findTotalAmountByUniversityId(university.getId());
+        if (total == null) return null;
+        return rollupRepository.findUniversityIdsWithTotalGreaterThan(total).size() + 1;
+    }
+
+    // 랭킹 캐시(ZSET)에서 조회. 캐시가 아직 채워지지 않았거나 Redis 오류면 DB 집계로 대신함
     @Override
-    public List<DonationRanking> getUniversityRanking() {
+    public DonationRankingResult getUniversityRanking() {
+
+        try {
+            Instant syncedAt = rankingStore.getUniversitySyncedAt();
+            if (syncedAt != null) {
+                return new DonationRankingResult(rankWithTies(rankingStore.getUniversityRanking()), syncedAt);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("학교 랭킹 캐시 조회 실패 — DB 집계로 대신합니다: {}", e.toString());
+        }
 
         List<RankingProjection> list = donationHistoryRepository.getUniversityRanking();
 
-        return list.stream()
+        return new DonationRankingResult(list.stream()
                 .map(dto -> new DonationRanking(
                         dto.getRank(),
                         dto.getName(),
                         dto.getAmount()
                 ))
-                .toList();
+                .toList(), null);
     }
 
     @Override
-    public List<DonationRanking> getDepartmentRanking(Long userId) {
+    public DonationRankingResult getDepartmentRanking(Long userId) {
 
         Users user = studentRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
@@ -347,120 +414,267 @@ public class DonationServiceImpl implements DonationService {
                 .map(University::getId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자 소속 학교 정보가 없습니다."));
 
+        try {
+            Instant syncedAt = rankingStore.getDepartmentSyncedAt(universityId);
+            if (syncedAt != null) {
+                return new DonationRankingResult(rankWithTies(rankingStore.getDepartmentRanking(universityId)), syncedAt);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("학과 랭킹 캐시 조회 실패 — DB 집계로 대신합니다: university={}, {}", universityId, e.toString());
+        }
+
         List<RankingProjection> list = donationHistoryRepository.getDepartmentRanking(universityId);
 
-        return list.stream()
+        return new DonationRankingResult(list.stream()
                 .map(dto -> new DonationRanking(
                         dto.getRank(),
                         dto.getName(),
                         dto.getAmount()
                 ))
-                .toList();
+                .toList(), null);
+    }
+
+    /** 점수 내림차순 목록에 순위 부여. 동점은 같은 순위, 다음 순위는 동점 수만큼 건너뜀 (SQL RANK() 와 동일: 1, 2, 2, 4) */
+    private static List<DonationRanking> rankWithTies(Set<ZSetOperations.TypedTuple<String>> entries) {
+        List<DonationRanking> rankings = new ArrayList<>();
+        if (entries == null) return rankings;
+
+        int position = 0;
+        int rank = 0;
+        long prevCents = Long.MIN_VALUE;
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            position++;
+            double score = entry.getScore() == null ? 0 : entry.getScore();
+            long cents = Math.round(score * 100); // 부동소수 오차로 같은 금액이 다른 순위가 되지 않게 원 단위(소수 2자리)로 비교
+            if (cents != prevCents) {
+                rank = position;
+                prevCents = cents;
+            }
+            rankings.add(new DonationRanking(rank, entry.getValue(), BigDecimal.valueOf(cents, 2)));
+        }
+        return rankings;
     }
 
-    // 학교단위 기부
+    // 학교단위 기부: 학교×테마마다 잔고 조회 → 단체별 이체를 아웃박스에 등록 → 등록한 이체가 끝날 때까지 대기
+    // dry-run 이면 잔고 조회와 단체별 배분 계획까지만 (등록/대기 없음)
     @Override
-    @Transactional
-    public void transferDonations() {
+    public Mono<DonationTransferReport> transferDonations(boolean dryRun, BatchRunReport progress) {
 
-        List<University> universities = universityRepository.findAll();
+        // 같은 주에 다시 실행돼도 단체별 이체가 중복 등록되지 않도록 주 단위 키 사용
+        LocalDate weekMon = LocalDate.now(KST).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        String weekKey = weekMon.format(DateTimeFormatter.BASIC_ISO_DATE);
 
-        for (University uni : universities) {
-            transferThemeDonation(uni, Category.PLANET.getId(), uni.getPlanetAccountNo());
-            transferThemeDonation(uni, Category.PEOPLE.getId(), uni.getPeopleAccountNo());
-            transferThemeDonation(uni, Category.PROSPERITY.getId(), uni.getProsperityAccountNo());
-        }
+        return Mono.fromCallable(universityRepository::findAll)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(universities -> progress.expect(universities.size() * 3L))
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(uni -> Flux.just(
+                        new ThemeTarget(uni, Category.PLANET.getId(), uni.getPlanetAccountNo()),
+                        new ThemeTarget(uni, Category.PEOPLE.getId(), uni.getPeopleAccountNo()),
+                        new ThemeTarget(uni, Category.PROSPERITY.getId(), uni.getProsperityAccountNo())))
+                // 잔고 조회/등록을 동시에 transferConcurrency 개까지만 (금융 API 로 한꺼번에 몰리지 않게)
+                .flatMap(target -> transferThemeDonation(target, weekKey, dryRun), Math.max(1, transferConcurrency))
+                .doOnNext(theme -> recordProgress(progress, theme))
+                .collectList()
+                .flatMap(themes -> (dryRun ? Mono.just(Map.<String, TransferOutbox>of()) : awaitTransfers(themes))
+                        .map(rows -> buildTransferReport(weekKey, themes, rows)))
+                .doFinally(signal -> progress.finish());
     }
 
-    // 학교 테마별 계좌 -> 기부단체
-    private void transferThemeDonation(University university, Long categoryId, String uniAccountNo) {
-
-        Mono.fromCallable(() -> {
+    private static void recordProgress(BatchRunReport progress, PreparedTheme theme) {
+        switch (theme.status()) {
+            case ENQUEUED, PLANNED -> progress.processed(theme.transfers().stream().mapToLong(PlannedTransfer::amount).sum());
+            case FAILED -> progress.failed();
+            default -> progress.skipped();
+        }
+    }
 
-                    // 1. 단체 목록 조회
-                    List<DonationOrganization> organizations = donationOrganizationRepository.findByEsgCategory_id(categoryId);
+    // 학교 테마별 계좌 -> 기부단체 (이체는 아웃박스에 등록하고 TransferOutboxWorker 가 실행)
+    private Mono<PreparedTheme> transferThemeDonation(ThemeTarget target, String weekKey, boolean dryRun) {
+        University university = target.university();
+        Long categoryId = target.categoryId();
+        String uniAccountNo = target.accountNo();
 
+        return Mono.fromCallable(() -> donationOrganizationRepository.findByEsgCategory_id(categoryId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(organizations -> {
+                    // 1. 단체 목록 확인
                     if (organizations == null || organizations.isEmpty()) {
-                        throw DonationException.organizationAccountNotFound();
+                        return Mono.just(target.result(DonationTransferReport.ThemeStatus.NO_ORGANIZATION, null, "기부단체 없음"));
                     }
 
                     // 2. 학교 계좌 확인
                     if (uniAccountNo == null || uniAccountNo.isBlank()) {
-                        logger.error("학교의 계좌 정보가 없습니다");
-                        throw DonationException.universityAccountNotFound();
-                    } else {
-                        logger.info("학교 계좌: {}", uniAccountNo);
+                        logger.error("학교의 계좌 정보가 없습니다: university={}, category={}", university.getId(), categoryId);
+                        return Mono.just(target.result(DonationTransferReport.ThemeStatus.NO_ACCOUNT, null, "학교 계좌 정보 없음"));
                     }
 
-                    return organizations;
-                })
-                .flatMapMany(organizations -> {
-
                     String userKey = encryptionService.decrypt(university.getUserKey());
                     if (userKey == null || userKey.isBlank()) {
-                        logger.error("학교의 계정 정보가 없습니다");
-                        throw DonationException.universityAccountNotFound();
+                        logger.error("학교의 계정 정보가 없습니다: university={}", university.getId());
+                        return Mono.just(target.result(DonationTransferReport.ThemeStatus.NO_ACCOUNT, null, "학교 계정 정보 없음"));
                     }
 
                     // 3. 계좌 잔고 확인
                     return financialApiService.inquireDemandDepositAccountBalance(userKey, uniAccountNo)
-                            .flatMapMany(balanceResponse -> {
+                            .contextWrite(FinancialApiPriority.batch()) // 주간 배치 송금은 사용자 요청보다 후순위
+                            .switchIfEmpty(Mono.error(DonationException.externalApiFailure()))
+                            .flatMap(balanceResponse -> {
+                                if (balanceResponse.getRec() == null) {
+                                    return Mono.<PreparedTheme>error(DonationException.externalApiFailure());
+                                }
+
                                 long totalBalance = Long.parseLong(balanceResponse.getRec().getAccountBalance());
-                                if (totalBalance < 1000) {
+                                if (totalBalance < MIN_THEME_TRANSFER) {
                                     logger.warn("계좌 잔고 부족: {}", totalBalance);
-                                    return Mono.empty();
-                                } else {
-                                    logger.info("{} {} 계좌 잔고: {}", university.getName(), categoryId, totalBalance);
+                                    return Mono.just(target.result(DonationTransferReport.ThemeStatus.LOW_BALANCE, totalBalance, null));
                                 }
+                                logger.info("{} {} 계좌 잔고: {}", university.getName(), categoryId, totalBalance);
 
                                 // 4. 단체 수로 나눠서 1/N씩 기부
-                                int orgCount = organizations.size();
-                                Long amountPerOrg = totalBalance / orgCount;
-
-                                // 5. 싸피 금융 API - 계좌이체 실행
-                                return Flux.fromIterable(organizations)
-                                        .flatMap(org -> {
-
-                                            String orgAccountNo = org.getAccountNo();
-                                            if (orgAccountNo == null || orgAccountNo.isBlank()) {
-                                                logger.error("기부단체의 계좌 정보가 없습니다");
-                                                return Mono.error(DonationException.organizationAccountNotFound());
-                                            } else {
-                                                logger.info("기부단체 계좌: {}", orgAccountNo);
-                                            }
-
-                                            logger.info("이체: {} -> {} amount={}", uniAccountNo, org.getAccountNo(), amountPerOrg);
-                                            return financialApiService.updateDemandDepositAccountTransfer(
-                                                    userKey,
-                                                    orgAccountNo,
-                                                    university.getName(),
-                                                    amountPerOrg.toString(),
-                                                    uniAccountNo,
-                                                    org.getName()
-                                            ).onErrorMap(e -> DonationException.externalApiFailure());
-                                        });
+                                long amountPerOrg = totalBalance / organizations.size();
+
+                                // 5. 단체별 이체 등록 (한 테마 단위로 커밋)
+                                List<PlannedTransfer> planned = new ArrayList<>();
+                                List<TransferOutbox> outboxes = new ArrayList<>();
+                                for (DonationOrganization org : organizations) {
+                                    String orgAccountNo = org.getAccountNo();
+                                    if (orgAccountNo == null || orgAccountNo.isBlank()) {
+                                        logger.error("기부단체의 계좌 정보가 없습니다: org={}", org.getId());
+                                        continue;
+                                    }
+
+                                    String key = "THEME_DONATION:" + university.getId() + ":" + categoryId + ":" + org.getId() + ":" + weekKey;
+                                    logger.info("이체 {}: {} -> {} amount={}", dryRun ? "계획" : "등록", uniAccountNo, orgAccountNo, amountPerOrg);
+                                    planned.add(new PlannedTransfer(org.getId(), org.getName(), amountPerOrg, key));
+                                    outboxes.add(TransferOutbox.builder()
+                                            .idempotencyKey(key)
+                                            .type(TransferOutboxType.THEME_DONATION)
+                                            .encryptedUserKey(university.getUserKey())
+                                            .depositAccountNo(orgAccountNo)
+                                            .depositSummary(university.getName())
+                                            .withdrawalAccountNo(uniAccountNo)
+                                            .withdrawalSummary(org.getName())
+                                            .amount(amountPerOrg)
+                                            .verifyOnDeposit(false)
+                                            .build());
+                                }
+
+                                if (dryRun) {
+                                    return Mono.just(new PreparedTheme(target, DonationTransferReport.ThemeStatus.PLANNED,
+                                            totalBalance, null, planned));
+                                }
+                                return Mono.fromRunnable(() -> donationTransferWriter.enqueueAll(outboxes))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .thenReturn(new PreparedTheme(target, DonationTransferReport.ThemeStatus.ENQUEUED,
+                                                totalBalance, null, planned));
                             });
                 })
+                .onErrorResume(e -> {
+                    logger.error("계좌이체 등록 실패: university={}, category={}", university.getId(), categoryId, e);
+                    return Mono.just(target.result(DonationTransferReport.ThemeStatus.FAILED, null, e.getMessage()));
+                });
+    }
+
+    /**
+     * 등록한 이체가 모두 SUCCEEDED/FAILED 가 될 때까지 아웃박스를 주기적으로 확인.
+     * 대기 시간을 넘기면 마지막으로 본 상태를 그대로 돌려준다 (남은 이체는 워커가 계속 처리).
+     */
+    private Mono<Map<String, TransferOutbox>> awaitTransfers(List<PreparedTheme> themes) {
+        List<String> keys = themes.stream()
+                .flatMap(t -> t.transfers().stream())
+                .map(PlannedTransfer::idempotencyKey)
+                .toList();
+        if (keys.isEmpty()) return Mono.just(Map.of());
+
+        AtomicReference<List<TransferOutbox>> last = new AtomicReference<>(List.of());
+        return Mono.fromCallable(() -> transferOutboxRepository.findByIdempotencyKeyIn(keys))
                 .subscribeOn(Schedulers.boundedElastic())
-                .subscribe(
-                        result -> logger.info("계좌이체 성공: {}", result),
-                        error -> logger.error("계좌이체 실패: ", error)
-                );
+                .doOnNext(last::set)
+                .filter(rows -> rows.size() >= keys.size() && rows.stream().allMatch(o ->
+                        o.getStatus() == TransferOutboxStatus.SUCCEEDED || o.getStatus() == TransferOutboxStatus.FAILED))
+                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(transferAwaitPollMs)))
+                .timeout(Duration.ofSeconds(transferAwaitTimeoutSeconds))
+                .onErrorResume(TimeoutException.class, e -> {
+                    logger.warn("기부 이체 대기 시간 초과 — 남은 이체는 아웃박스 워커가 계속 처리합니다");
+                    return Mono.fromSupplier(last::get);
+                })
+                .map(rows -> rows.stream().collect(Collectors.toMap(TransferOutbox::getIdempotencyKey, o -> o)));
+    }
+
+    private DonationTransferReport buildTransferReport(String weekKey, List<PreparedTheme> themes, Map<String, TransferOutbox> rows) {
+        long succeeded = 0, failed = 0, pending = 0, totalAmount = 0;
+        Map<Long, List<DonationTransferReport.ThemeResult>> byUniversity = new LinkedHashMap<>();
+        Map<Long, String> universityNames = new HashMap<>();
+
+        for (PreparedTheme theme : themes) {
+            List<DonationTransferReport.OrganizationResult> orgs = new ArrayList<>();
+            for (PlannedTransfer p : theme.transfers()) {
+                if (theme.status() == DonationTransferReport.ThemeStatus.PLANNED) {
+                    // dry-run: 이체 상태 없이 예정 금액만
+                    totalAmount += p.amount();
+                    orgs.add(new DonationTransferReport.OrganizationResult(p.organizationId(), p.organizationName(), p.amount(), null, null));
+                    continue;
+                }
+                TransferOutbox row = rows.get(p.idempotencyKey());
+                TransferOutboxStatus status = row == null ? TransferOutboxStatus.PENDING : row.getStatus();
+                switch (status) {
+                    case SUCCEEDED -> { succeeded++; totalAmount += p.amount(); }
+                    case FAILED -> failed++;
+                    default -> pending++;
+                }
+                orgs.add(new DonationTransferReport.OrganizationResult(
+                        p.organizationId(), p.organizationName(), p.amount(), status,
+                        row == null ? null : row.getLastError()));
+            }
+
+            University uni = theme.target().university();
+            universityNames.put(uni.getId(), uni.getName());
+            byUniversity.computeIfAbsent(uni.getId(), id -> new ArrayList<>())
+                    .add(new DonationTransferReport.ThemeResult(theme.target().categoryId(), theme.status(),
+                            theme.balance(), theme.reason(), orgs));
+        }
+
+        List<DonationTransferReport.UniversityResult> universities = byUniversity.entrySet().stream()
+                .map(e -> new DonationTransferReport.UniversityResult(e.getKey(), universityNames.get(e.getKey()), e.getValue()))
+                .toList();
+        return new DonationTransferReport(weekKey, pending == 0, succeeded, failed, pending, totalAmount, universities);
     }
 
-    // 기부 랭킹 캐싱
+    private record ThemeTarget(University university, Long categoryId, String accountNo) {
+        PreparedTheme result(DonationTransferReport.ThemeStatus status, Long balance, String reason) {
+            return new PreparedTheme(this, status, balance, reason, List.of());
+        }
+    }
+
+    private record PreparedTheme(ThemeTarget target, DonationTransferReport.ThemeStatus status, Long balance,
+                                 String reason, List<PlannedTransfer> transfers) {}
+
+    private record PlannedTransfer(Long organizationId, String organizationName, long amount, String idempotencyKey) {}
+
+    // 기부 랭킹 정합성 점검: 기부 시 증분 반영한 랭킹을 일별 집계(학교/학과 단위 행) 합계와 비교해 어긋난 항목만 보정.
+    // Redis 값을 DB 합계보다 먼저 읽어, 그 사이 ZINCRBY 로 바뀐 항목은 덮어쓰지 않는다.
+    // 트랜잭션으로 묶지 않음 — 합계 조회가 Redis 를 읽기 전에 잡힌 스냅샷을 보면 그 사이 증분을 되돌리게 된다.
     @Override
-    @Transactional(readOnly = true)
-    public void updateRankingCache() {
+    public int reconcileRankingCache() {
 
-        List<Object[]> results = donationHistoryRepository.sumByUniversity();
-        rankingStore.saveUniversityRanking(results);
+        // 기부가 없는 학교도 빈 랭킹으로 포함
+        List<Long> universityIds = universityRepository.findAll().stream().map(University::getId).toList();
+        Map<String, Double> observedUniversity = rankingStore.readUniversityRanking();
+        Map<Long, Map<String, Double>> observedDepartments = rankingStore.readDepartmentRankings(universityIds);
 
-        List<University> universities = universityRepository.findAll();
+        int entries = rankingStore.saveUniversityRanking(observedUniversity, rollupRepository.sumByUniversity());
 
-        for (University uni : universities) {
-            rankingStore.saveDepartmentRanking(uni.getId(), donationHistoryRepository.sumByDepartment(uni.getId()));
+        // 학과 합계는 학교별로 나눠 한 번에 조회
+        Map<Long, List<Object[]>> byUniversity = new LinkedHashMap<>();
+        for (Long universityId : universityIds) {
+            byUniversity.put(universityId, new ArrayList<>());
         }
+        for (Object[] row : rollupRepository.sumByUniversityAndDepartment()) {
+            byUniversity.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(new Object[]{row[1], row[2]});
+        }
+        entries += rankingStore.saveDepartmentRankings(observedDepartments, byUniversity);
+        return entries;
     }
 
 
@@ -491,4 +705,32 @@ public class DonationServiceImpl implements DonationService {
 
         return new CharacterLevel(newExperiencePoints, LEVEL_AMOUNT, level, heart);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<DonationAuditEvent> getMyDonationAuditEvents(Long userId, LocalDate week) {
+        return donationAuditLog.find(auditWeek(week), userId, null, AUDIT_QUERY_LIMIT);
+    }
+
+    @Override
+    public List<DonationAuditEvent> getUniversityDonationAuditEvents(Long userId, LocalDate week) {
+        Users user = studentRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+
+        Long universityId = Optional.ofNullable(user.getUniversity())
+                .map(University::getId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자 소속 학교 정보가 없습니다."));
+
+        // 같은 학교 다른 학생의 식별 정보는 내려주지 않음 (학교 계좌 송금 이벤트는 그대로)
+        return donationAuditLog.find(auditWeek(week), null, universityId, AUDIT_QUERY_LIMIT).stream()
+                .map(e -> e.userId() == null ? e : new DonationAuditEvent(
+                        e.at(), e.week(), e.type(), e.universityId(), null, null,
+                        e.theme(), null, e.amount(), e.reason()))
+                .toList();
+    }
+
+    /** 감사 로그는 주 단위(해당 주 월요일 yyyyMMdd)로 쌓이므로 아무 날짜나 받아 그 주 월요일로 맞춘다 */
+    private static String auditWeek(LocalDate date) {
+        LocalDate d = date != null ? date : LocalDate.now(ZoneId.of("Asia/Seoul"));
+        return d.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.tiggle.service.donation;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.service.outbox.TransferOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** 학교×테마 단위 단체별 이체 등록 (짧은 트랜잭션 단위) */
+@Service
+@RequiredArgsConstructor
+public class DonationTransferWriter {
+
+    private final TransferOutboxService transferOutboxService;
+
+    /** 한 테마의 단체별 이체를 함께 커밋 (일부 단체만 등록되는 일이 없도록) */
+    @Transactional
+    public void enqueueAll(List<TransferOutbox> outboxes) {
+        outboxes.forEach(transferOutboxService::enqueue);
+    }
+}
@@ -1,9 +1,7 @@
 package com.ssafy.tiggle.service.dutchpay;
 
 import com.ssafy.tiggle.domain.dutchpay.event.DutchpayCreatedEvent;
-import com.ssafy.tiggle.repository.dutchpay.DutchpayRepository;
 import com.ssafy.tiggle.repository.user.StudentRepository;
-import com.ssafy.tiggle.service.account.AccountService;
 import com.ssafy.tiggle.service.notification.FcmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +20,6 @@ public class DutchpayEventHandler {
 
     private final StudentRepository userRepo;
     private final FcmService fcmService;
-    private final AccountService accountService;
-    private final DutchpayRepository dutchpayRepository;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onDutchpayCreated(DutchpayCreatedEvent e) {
@@ -53,26 +49,5 @@ public class DutchpayEventHandler {
             boolean ok = fcmService.sendNotificationWithData(token, notiTitle, notiBody, data);
             if (!ok) log.warn("더치페이 FCM 전송 실패 userId={}, dutchpayId={}", userId, e.dutchpayId());
         }
-
-        try {
-            Boolean payMore = dutchpayRepository.findPayMoreById(e.dutchpayId());
-            long creatorOriginal = e.userShareMap().getOrDefault(e.creatorId(), 0L);
-
-            String encryptedUserKey = e.encryptedUserKey();
-
-            accountService.transferTiggleIfPayMore(
-                            encryptedUserKey,
-                            e.creatorId(),
-                            e.dutchpayId(),
-                            creatorOriginal,
-                            Boolean.TRUE.equals(payMore)
-                    )
-                    .doOnError(err -> log.warn("생성자 티끌 자동저금 실패 userId={}, dutchpayId={}, msg={}",
-                            e.creatorId(), e.dutchpayId(), err.getMessage()))
-                    .subscribe();
-
-        } catch (Exception ex) {
-            log.warn("생성자 자동저금 트리거 중 예외 dutchpayId={}, msg={}", e.dutchpayId(), ex.getMessage());
-        }
     }
 }
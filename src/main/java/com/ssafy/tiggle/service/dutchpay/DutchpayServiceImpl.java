@@ -10,6 +10,9 @@ import com.ssafy.tiggle.dto.dutchpay.response.DutchpaySummaryResponse;
 import com.ssafy.tiggle.entity.Dutchpay;
 import com.ssafy.tiggle.entity.DutchpayShare;
 import com.ssafy.tiggle.entity.DutchpayShareStatus;
+import com.ssafy.tiggle.entity.PiggyBank;
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.entity.TransferOutboxType;
 import com.ssafy.tiggle.entity.Users;
 import com.ssafy.tiggle.repository.dutchpay.DutchpayQueryRepository;
 import com.ssafy.tiggle.repository.dutchpay.DutchpayRepository;
@@ -18,7 +21,8 @@ import com.ssafy.tiggle.repository.dutchpay.projection.DutchpayListItemProjectio
 import com.ssafy.tiggle.repository.dutchpay.projection.DutchpayShareBriefProjection;
 import com.ssafy.tiggle.repository.piggybank.PiggyBankRepository;
 import com.ssafy.tiggle.repository.user.StudentRepository;
-import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
+import com.ssafy.tiggle.service.outbox.TransferOutboxService;
 import com.ssafy.tiggle.service.security.EncryptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +34,6 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Slf4j
@@ -43,10 +46,11 @@ public class DutchpayServiceImpl implements DutchpayService {
     private final StudentRepository userRepo;
     private final ApplicationEventPublisher eventPublisher;
     private final DutchpayQueryRepository queryRepo;
+    private final TransferOutboxService transferOutboxService;
 
     // Summary 용 의존성
     private final PiggyBankRepository piggyBankRepository;
-    private final FinancialApiService financialApiService;
+    private final TransactionLedgerService transactionLedgerService;
     private final EncryptionService encryptionService;
 
     /* ================== CREATE ================== */
@@ -130,18 +134,55 @@ public class DutchpayServiceImpl implements DutchpayService {
         }
         shareRepo.saveAll(shares);
 
-        // 이벤트 발행 (푸시/자동저금 등 후속 작업)
+        // 생성자 '티끌 더하기' 자투리 저금: 같은 트랜잭션에서 아웃박스에 등록 (이체는 워커가 비동기 실행)
+        if (Boolean.TRUE.equals(req.payMore())) {
+            enqueueCreatorTiggle(encryptedUserKey, creator, d, roundedPerPerson - creatorShare);
+        }
+
+        // 이벤트 발행 (푸시 알림)
         eventPublisher.publishEvent(new DutchpayCreatedEvent(
                 d.getId(),
                 d.getTitle(),
                 d.getMessage(),
                 d.getTotalAmount(),
                 creator.getId(),
-                shareMap,
-                encryptedUserKey
+                shareMap
         ));
     }
 
+    private void enqueueCreatorTiggle(String encryptedUserKey, Users creator, Dutchpay d, long tiggle) {
+        if (tiggle <= 0) return;
+
+        String primary = creator.getPrimaryAccountNo();
+        String piggyAcc = piggyBankRepository.findByOwner_Id(creator.getId())
+                .map(PiggyBank::getAccountNo)
+                .orElse(null);
+
+        // 계좌 연결이 안 된 사용자는 자동저금 없이 더치페이만 생성
+        if (encryptedUserKey == null || encryptedUserKey.isBlank()
+                || primary == null || primary.isBlank()
+                || piggyAcc == null || piggyAcc.isBlank()) {
+            log.warn("생성자 티끌 자동저금 생략(계좌 미연결) userId={}, dutchpayId={}", creator.getId(), d.getId());
+            return;
+        }
+
+        String memoTitle = (d.getTitle() != null && !d.getTitle().isBlank()) ? d.getTitle() : "더치페이";
+
+        transferOutboxService.enqueue(TransferOutbox.builder()
+                .idempotencyKey("DUTCHPAY_TIGGLE:" + d.getId() + ":" + creator.getId())
+                .type(TransferOutboxType.DUTCHPAY_TIGGLE)
+                .userId(creator.getId())
+                .encryptedUserKey(encryptedUserKey)
+                .depositAccountNo(piggyAcc)
+                // summary는 기존 태그 유지 (멱등/추적용)
+                .depositSummary("[DUTCH][PM][UID:" + creator.getId() + "] DP" + d.getId())
+                .withdrawalAccountNo(primary)
+                .withdrawalSummary(memoTitle)
+                .amount(tiggle)
+                .verifyOnDeposit(true)
+                .build());
+    }
+
     /* ================== DETAIL ================== */
     @Override
     @Transactional(readOnly = true)
@@ -271,9 +312,6 @@ public class DutchpayServiceImpl implements DutchpayService {
         // 2) 기본 기간: 최근 6개월
         var end   = LocalDate.now();
         var start = end.minusMonths(6);
-        var FMT   = DateTimeFormatter.ofPattern("yyyyMMdd");
-        String startYmd = start.format(FMT);
-        String endYmd   = end.format(FMT);
 
         String userKey = encryptionService.decrypt(encryptedUserKey);
         String piggyAcc = normalizeAcc(piggy.getAccountNo());
@@ -282,12 +320,12 @@ public class DutchpayServiceImpl implements DutchpayService {
         long count = 0L;
 
         try {
-            var resp = financialApiService
-                    .inquireTransactionHistoryList(userKey, piggyAcc, startYmd, endYmd, "A", "DESC")
+            var rows = transactionLedgerService
+                    .getHistory(userKey, piggyAcc, start, end, "DESC")
                     .block();
 
-            if (resp != null && resp.getHeader() != null && "H0000".equals(resp.getHeader().getResponseCode())) {
-                for (var tx : resp.getRec().getList()) {
+            if (rows != null) {
+                for (var tx : rows) {
                     String typeName  = tx.getTransactionTypeName();
                     String summary   = tx.getTransactionSummary();
                     String amountStr = tx.getTransactionBalance();
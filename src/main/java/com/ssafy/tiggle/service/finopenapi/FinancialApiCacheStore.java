@@ -0,0 +1,81 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.tiggle.util.UserKeyHashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 금융 API 조회 응답 캐시 (거래내역/잔액).
+ * 계좌별 버전 번호를 키에 포함시켜, 이체/입금/출금 시 버전만 올리면 해당 계좌의 캐시가 한 번에 무효화된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinancialApiCacheStore {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    @Value("${external-api.ssafy.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${external-api.ssafy.cache.ttl-seconds:15}")
+    private long ttlSeconds;
+
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private String versionKey(String accountNo) { return "finapi:ver:" + accountNo; }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** 거래내역 캐시 키: (계좌, 기간, 거래구분, 정렬) + 계좌 버전 + userKey 해시 */
+    public String historyKey(String userKey, String accountNo, String startDate, String endDate, String transactionType, String orderByType) {
+        return "finapi:history:" + accountNo + ":v" + currentVersion(accountNo) + ":"
+                + startDate + ":" + endDate + ":" + transactionType + ":" + orderByType + ":" + UserKeyHashUtil.sha256Hex(userKey);
+    }
+
+    /** 잔액 캐시 키: 계좌 + 계좌 버전 + userKey 해시 */
+    public String balanceKey(String userKey, String accountNo) {
+        return "finapi:balance:" + accountNo + ":v" + currentVersion(accountNo) + ":" + UserKeyHashUtil.sha256Hex(userKey);
+    }
+
+    public <T> Optional<T> get(String key, Class<T> type) {
+        String json = redis.opsForValue().get(key);
+        if (json == null) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(json, type));
+        } catch (Exception e) {
+            log.warn("[FinApiCache] broken entry — evict key={}, msg={}", key, e.getMessage());
+            redis.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, Object value) {
+        try {
+            redis.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("[FinApiCache] put failed key={}, msg={}", key, e.getMessage());
+        }
+    }
+
+    /** 계좌 버전을 올려 해당 계좌의 모든 캐시를 무효화 (이전 버전 키는 TTL 로 자연 소멸) */
+    public void evictAccount(String accountNo) {
+        if (accountNo == null || accountNo.isBlank()) return;
+        String key = versionKey(accountNo);
+        redis.opsForValue().increment(key);
+        redis.expire(key, VERSION_TTL);
+    }
+
+    private long currentVersion(String accountNo) {
+        String v = redis.opsForValue().get(versionKey(accountNo));
+        return v == null ? 0L : Long.parseLong(v);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * 금융 API 호출 우선순위. 기본은 INTERACTIVE 이며, 스케줄러/배치 흐름은 Reactor Context 에
+ * BATCH 를 실어 보낸다. ({@code mono.contextWrite(FinancialApiPriority.batch())})
+ */
+public enum FinancialApiPriority {
+    INTERACTIVE,
+    BATCH;
+
+    private static final String CONTEXT_KEY = FinancialApiPriority.class.getName();
+
+    public static Context batch() {
+        return Context.of(CONTEXT_KEY, BATCH);
+    }
+
+    static FinancialApiPriority of(ContextView ctx) {
+        return ctx.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+}
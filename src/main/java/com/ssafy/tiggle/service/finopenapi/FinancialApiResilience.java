@@ -0,0 +1,363 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.ssafy.tiggle.exception.account.AccountException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSAFY 금융 API 보호 계층.
+ * - 동시 호출 수를 AIMD 방식으로 조절 (느리거나 실패하면 한도를 줄이고, 정상이면 천천히 늘림)
+ * - API 이름별 서킷 브레이커 (OPEN 동안 즉시 실패, 이후 HALF_OPEN 에서 1건만 시험 호출하고 그 결과로만 닫거나 다시 엶)
+ * - 우선순위 레인: 배치({@link FinancialApiPriority#BATCH}) 호출은 사용자 요청 몫을 남겨둔 나머지 한도 안에서,
+ *   별도 초당 호출 상한을 지키며 대기 후 실행된다. 사용자 요청(INTERACTIVE)은 항상 전체 한도를 쓸 수 있다.
+ * 업스트림이 느려져도 요청 스레드가 응답 타임아웃(30초)까지 붙잡혀 있지 않도록 빠르게 실패시킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinancialApiResilience {
+
+    private final MeterRegistry meterRegistry;
+
+    // ===== 동시성 한도 (AIMD) =====
+    @Value("${external-api.ssafy.resilience.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${external-api.ssafy.resilience.min-limit:4}")
+    private int minLimit;
+
+    @Value("${external-api.ssafy.resilience.max-limit:100}")
+    private int maxLimit;
+
+    // 이 시간보다 오래 걸린 호출은 혼잡 신호로 보고 한도를 줄임
+    @Value("${external-api.ssafy.resilience.slow-call-ms:3000}")
+    private long slowCallMs;
+
+    @Value("${external-api.ssafy.resilience.decrease-ratio:0.7}")
+    private double decreaseRatio;
+
+    // ===== 우선순위 레인 =====
+    // 한도 중 이 비율은 사용자 요청 전용으로 남겨두고, 배치는 나머지만 사용
+    @Value("${external-api.ssafy.resilience.batch.interactive-reserve-ratio:0.3}")
+    private double interactiveReserveRatio;
+
+    @Value("${external-api.ssafy.resilience.batch.rate-per-second:10}")
+    private double batchRatePerSecond;
+
+    // 배치 호출이 자리를 기다리는 최대 시간 (초과 시 실패)
+    @Value("${external-api.ssafy.resilience.batch.max-wait-ms:60000}")
+    private long batchMaxWaitMs;
+
+    @Value("${external-api.ssafy.resilience.batch.poll-ms:100}")
+    private long batchPollMs;
+
+    // ===== 서킷 브레이커 =====
+    @Value("${external-api.ssafy.resilience.breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${external-api.ssafy.resilience.breaker.min-calls:10}")
+    private int minCalls;
+
+    @Value("${external-api.ssafy.resilience.breaker.failure-rate-percent:50}")
+    private int failureRatePercent;
+
+    @Value("${external-api.ssafy.resilience.breaker.open-seconds:10}")
+    private long openSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private double batchTokens;
+    private long batchRefilledAt = System.nanoTime();
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        limit = initialLimit;
+        Gauge.builder("finapi.concurrency.limit", () -> limit).register(meterRegistry);
+        Gauge.builder("finapi.concurrency.inflight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 실제 HTTP 호출을 감싼다. 서킷 OPEN 이거나 한도 초과면 외부 호출 없이 {@link AccountException#bankApiError} 로 실패.
+     * 배치 호출은 한도/속도 여유가 생길 때까지 max-wait-ms 동안 기다린다.
+     */
+    public <T> Mono<T> guard(String apiName, Mono<T> call) {
+        return Mono.deferContextual(ctx -> {
+            FinancialApiPriority priority = FinancialApiPriority.of(ctx);
+            Mono<T> attempt = Mono.defer(() -> {
+                Permit permit = admit(apiName, priority);
+                return call
+                        .doOnSuccess(res -> permit.complete(false))
+                        .doOnError(e -> permit.complete(isUpstreamFailure(e)))
+                        .doOnCancel(permit::cancel);
+            });
+            return priority == FinancialApiPriority.INTERACTIVE ? attempt : attempt.retryWhen(batchWait(apiName, priority));
+        });
+    }
+
+    /**
+     * 스트리밍 응답용 {@link #guard(String, Mono)}. 마지막 원소까지 받은 시점을 호출 종료로 본다.
+     * 자리를 얻기 전에만 대기/재시도하므로 이미 내보낸 원소가 다시 나오지 않는다.
+     */
+    public <T> Flux<T> guardMany(String apiName, Flux<T> call) {
+        return Flux.deferContextual(ctx -> {
+            FinancialApiPriority priority = FinancialApiPriority.of(ctx);
+            Flux<T> attempt = Flux.defer(() -> {
+                Permit permit = admit(apiName, priority);
+                return call
+                        .doOnComplete(() -> permit.complete(false))
+                        .doOnError(e -> permit.complete(isUpstreamFailure(e)))
+                        .doOnCancel(permit::cancel);
+            });
+            return priority == FinancialApiPriority.INTERACTIVE ? attempt : attempt.retryWhen(batchWait(apiName, priority));
+        });
+    }
+
+    private Retry batchWait(String apiName, FinancialApiPriority priority) {
+        long maxAttempts = Math.max(1, batchMaxWaitMs / Math.max(1, batchPollMs));
+        return Retry.fixedDelay(maxAttempts, Duration.ofMillis(batchPollMs))
+                .filter(e -> e instanceof BatchLaneBusy)
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    reject(apiName, priority, "batch_wait_timeout");
+                    return AccountException.bankApiError("은행 API 배치 호출 대기 시간이 초과되었습니다.");
+                });
+    }
+
+    /** 브레이커/한도/배치 토큰을 통과하면 자리를 잡고 Permit 을 돌려준다. 통과 못 하면 예외 */
+    private Permit admit(String apiName, FinancialApiPriority priority) {
+        Breaker breaker = breakers.computeIfAbsent(apiName, this::newBreaker);
+        boolean batch = priority == FinancialApiPriority.BATCH;
+
+        Admission admission = breaker.tryAcquire();
+        if (admission == Admission.REJECTED) {
+            reject(apiName, priority, "circuit_open");
+            throw AccountException.bankApiError("은행 API 가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+        }
+        boolean probe = admission == Admission.PROBE;
+        if (!tryAcquirePermit(batch ? batchCeiling() : (int) limit)) {
+            if (probe) breaker.releaseProbe();
+            if (batch) throw BatchLaneBusy.INSTANCE;
+            reject(apiName, priority, "limit");
+            throw AccountException.bankApiError("은행 API 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (batch && !tryTakeBatchToken()) {
+            inFlight.decrementAndGet();
+            if (probe) breaker.releaseProbe();
+            throw BatchLaneBusy.INSTANCE;
+        }
+        return new Permit(breaker, probe);
+    }
+
+    /** 잡은 자리 하나. 완료/실패/취소 중 먼저 온 신호 하나만 반영 */
+    private final class Permit {
+        private final Breaker breaker;
+        // HALF_OPEN 에서 통과한 시험 호출인지 (이 호출의 결과만 브레이커 상태를 바꿈)
+        private final boolean probe;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean settled = new AtomicBoolean(false);
+
+        private Permit(Breaker breaker, boolean probe) {
+            this.breaker = breaker;
+            this.probe = probe;
+        }
+
+        void complete(boolean failed) {
+            if (settled.compareAndSet(false, true)) onComplete(breaker, probe, startedAt, failed);
+        }
+
+        // 호출자가 취소하면 결과를 모르므로 한도/브레이커 통계에 반영하지 않음
+        void cancel() {
+            if (settled.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                if (probe) breaker.releaseProbe();
+            }
+        }
+    }
+
+    private void onComplete(Breaker breaker, boolean probe, long startedAt, boolean failed) {
+        inFlight.decrementAndGet();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (failed || elapsedMs >= slowCallMs) {
+            decreaseLimit();
+        } else {
+            increaseLimit();
+        }
+        breaker.record(failed, probe);
+    }
+
+    private boolean tryAcquirePermit(int ceiling) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= ceiling) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /** 배치가 쓸 수 있는 동시 호출 수: 현재 한도에서 사용자 요청 몫을 뺀 나머지 (최소 1) */
+    private int batchCeiling() {
+        return Math.max(1, (int) (limit * (1 - interactiveReserveRatio)));
+    }
+
+    /** 배치 초당 호출 상한 (토큰 버킷, 버스트는 1초치까지) */
+    private synchronized boolean tryTakeBatchToken() {
+        long now = System.nanoTime();
+        batchTokens = Math.min(batchRatePerSecond, batchTokens + (now - batchRefilledAt) / 1e9 * batchRatePerSecond);
+        batchRefilledAt = now;
+        if (batchTokens < 1) return false;
+        batchTokens -= 1;
+        return true;
+    }
+
+    private synchronized void increaseLimit() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    private synchronized void decreaseLimit() {
+        limit = Math.max(minLimit, limit * decreaseRatio);
+    }
+
+    private void reject(String apiName, FinancialApiPriority priority, String reason) {
+        meterRegistry.counter("finapi.resilience.rejected",
+                "api", apiName, "lane", priority.name().toLowerCase(), "reason", reason).increment();
+    }
+
+    /** 업스트림 장애로 볼 오류: 연결 실패, 타임아웃, 5xx. (4xx 는 요청 자체의 문제이므로 제외) */
+    private static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException wre) return wre.getStatusCode().is5xxServerError();
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private Breaker newBreaker(String apiName) {
+        Breaker b = new Breaker(apiName);
+        Gauge.builder("finapi.circuit.state", b, x -> x.state.ordinal())
+                .tag("api", apiName)
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+        return b;
+    }
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** 브레이커 통과 결과. PROBE 는 HALF_OPEN 의 시험 호출 한 건 */
+    enum Admission { REJECTED, CALL, PROBE }
+
+    /** API 별 서킷 상태 (호출 기록이 없으면 CLOSED) */
+    State circuitState(String apiName) {
+        Breaker b = breakers.get(apiName);
+        return b == null ? State.CLOSED : b.state;
+    }
+
+    /** 배치 레인에 자리가 없을 때 재시도 신호로만 쓰는 내부 예외 */
+    private static final class BatchLaneBusy extends RuntimeException {
+        private static final BatchLaneBusy INSTANCE = new BatchLaneBusy();
+
+        private BatchLaneBusy() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** 최근 windowSize 건의 성공/실패를 링 버퍼로 유지하는 카운트 기반 브레이커 */
+    private final class Breaker {
+        private final String apiName;
+        private final boolean[] outcomes = new boolean[windowSize];
+        private int index;
+        private int recorded;
+        private int failures;
+
+        private volatile State state = State.CLOSED;
+        private volatile long openedAt;
+        private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+
+        private Breaker(String apiName) {
+            this.apiName = apiName;
+        }
+
+        Admission tryAcquire() {
+            State s = state;
+            if (s == State.CLOSED) return Admission.CALL;
+
+            if (s == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openSeconds * 1000) return Admission.REJECTED;
+                synchronized (this) {
+                    if (state == State.OPEN) {
+                        state = State.HALF_OPEN;
+                        log.info("[FinApi] circuit HALF_OPEN api={}", apiName);
+                    }
+                }
+            }
+            // HALF_OPEN: 시험 호출은 한 건만 통과
+            return probeInFlight.compareAndSet(false, true) ? Admission.PROBE : Admission.REJECTED;
+        }
+
+        void releaseProbe() {
+            probeInFlight.set(false);
+        }
+
+        /**
+         * @param probe HALF_OPEN 에서 통과한 시험 호출이면 true. 상태 전환은 시험 호출 결과로만 한다 —
+         *              OPEN 전에 통과해 늦게 끝난 호출이 HALF_OPEN 중에 도착해도 서킷을 닫거나 다시 열지 않는다.
+         */
+        synchronized void record(boolean failed, boolean probe) {
+            if (probe) {
+                probeInFlight.set(false);
+                if (state != State.HALF_OPEN) return;
+                if (failed) {
+                    open();
+                } else {
+                    reset();
+                    log.info("[FinApi] circuit CLOSED api={}", apiName);
+                }
+                return;
+            }
+            if (state != State.CLOSED) return;
+
+            if (recorded == windowSize) {
+                if (outcomes[index]) failures--;
+            } else {
+                recorded++;
+            }
+            outcomes[index] = failed;
+            if (failed) failures++;
+            index = (index + 1) % windowSize;
+
+            if (recorded >= minCalls && failures * 100 >= failureRatePercent * recorded) {
+                open();
+            }
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            log.warn("[FinApi] circuit OPEN api={} (failures={}/{})", apiName, failures, recorded);
+        }
+
+        private void reset() {
+            state = State.CLOSED;
+            index = 0;
+            recorded = 0;
+            failures = 0;
+            Arrays.fill(outcomes, false);
+        }
+    }
+}
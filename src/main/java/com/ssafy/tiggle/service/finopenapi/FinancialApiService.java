@@ -1,8 +1,11 @@
 package com.ssafy.tiggle.service.finopenapi;
 
 import com.ssafy.tiggle.dto.finopenapi.response.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.function.Predicate;
+
 public interface FinancialApiService {
     
     // 사용자 계정 생성
@@ -35,6 +38,9 @@ public interface FinancialApiService {
     // 계좌 거래 내역 조회
     Mono<InquireTransactionHistoryListResponse> inquireTransactionHistoryList(String userKey, String accountNo, String startDate, String endDate, String transactionType, String orderByType);
     
+    // 계좌 거래 내역 조회(스트리밍) — 응답을 한 번에 올리지 않고 filter 에 맞는 거래만 한 건씩 내보냄 (캐시/합치기 없음)
+    Flux<InquireTransactionHistoryListREC> streamTransactionHistoryList(String userKey, String accountNo, String startDate, String endDate, String transactionType, String orderByType, Predicate<InquireTransactionHistoryListREC> filter);
+    
     // 계좌 거래 내역 조회(단건)
     Mono<InquireTransactionHistoryResponse> inquireTransactionHistory(String userKey, String accountNo, String transactionUniqueNo);
     
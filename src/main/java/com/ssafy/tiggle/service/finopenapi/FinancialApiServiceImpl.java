@@ -10,20 +10,31 @@ import com.ssafy.tiggle.dto.finopenapi.response.InquireDemandDepositAccountBalan
 import com.ssafy.tiggle.dto.finopenapi.response.InquireDemandDepositAccountHolderNameResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireDemandDepositAccountListResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireDemandDepositAccountResponse;
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.OpenAccountAuthResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.UpdateDemandDepositAccountDepositResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.UpdateDemandDepositAccountTransferResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.UpdateDemandDepositAccountWithdrawalResponse;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerWriter;
+import com.ssafy.tiggle.util.FinancialApiHeaderUtil;
+import com.ssafy.tiggle.util.TransactionUniqueNoAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-import static com.ssafy.tiggle.util.FinancialApiHeaderUtil.createHeader;
 
 @Slf4j
 @Service
@@ -31,6 +42,11 @@ import static com.ssafy.tiggle.util.FinancialApiHeaderUtil.createHeader;
 public class FinancialApiServiceImpl implements FinancialApiService {
 
     private final WebClient ssafyFinApiWebClient;
+    private final FinancialApiCacheStore cacheStore;
+    private final FinancialApiSingleFlight singleFlight;
+    private final FinancialApiResilience resilience;
+    private final TransactionUniqueNoAllocator transactionUniqueNoAllocator;
+    private final TransactionLedgerWriter ledgerWriter;
 
     @Value("${external-api.ssafy.api-key}")
     private String apiKey;
@@ -43,12 +59,13 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .apiKey(apiKey)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.CREATE_USER)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(UserResponse.class);
+        return resilience.guard("createUser",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.CREATE_USER)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(UserResponse.class));
     }
 
     // 사용자 조회
@@ -59,12 +76,13 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .apiKey(apiKey)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.SEARCH_USER)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(UserResponse.class);
+        return resilience.guard("searchUser",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.MEMBER_BASE + FinancialApiEndpoints.SEARCH_USER)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(UserResponse.class));
     }
 
     // 계좌 생성
@@ -75,59 +93,73 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .accountTypeUniqueNo("088-1-c099deaaef7c41")
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.CREATE_DEMAND_DEPOSIT_ACCOUNT)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(CreateDemandDepositAccountResponse.class);
+        return resilience.guard("createDemandDepositAccount",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.CREATE_DEMAND_DEPOSIT_ACCOUNT)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(CreateDemandDepositAccountResponse.class));
     }
 
     // 계좌 목록 조회
     @Override
     public Mono<InquireDemandDepositAccountListResponse> inquireDemandDepositAccountList(String userKey) {
-        InquireDemandDepositAccountListRequest request = InquireDemandDepositAccountListRequest.builder()
-                .header(createHeader("inquireDemandDepositAccountList", apiKey, userKey))
-                .build();
-
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_LIST)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireDemandDepositAccountListResponse.class);
+        return singleFlight.execute("inquireDemandDepositAccountList", FinancialApiSingleFlight.key("inquireDemandDepositAccountList", userKey), () -> {
+            InquireDemandDepositAccountListRequest request = InquireDemandDepositAccountListRequest.builder()
+                    .header(createHeader("inquireDemandDepositAccountList", apiKey, userKey))
+                    .build();
+
+            return resilience.guard("inquireDemandDepositAccountList",
+                    ssafyFinApiWebClient
+                            .post()
+                            .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_LIST)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(InquireDemandDepositAccountListResponse.class));
+        });
     }
 
     // 계좌 조회(단건)
     @Override
     public Mono<InquireDemandDepositAccountResponse> inquireDemandDepositAccount(String userKey, String accountNo) {
-        InquireDemandDepositAccountRequest request = InquireDemandDepositAccountRequest.builder()
-                .header(createHeader("inquireDemandDepositAccount", apiKey, userKey))
-                .accountNo(accountNo)
-                .build();
-
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireDemandDepositAccountResponse.class);
+        return singleFlight.execute("inquireDemandDepositAccount", FinancialApiSingleFlight.key("inquireDemandDepositAccount", userKey, accountNo), () -> {
+            InquireDemandDepositAccountRequest request = InquireDemandDepositAccountRequest.builder()
+                    .header(createHeader("inquireDemandDepositAccount", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .build();
+
+            return resilience.guard("inquireDemandDepositAccount",
+                    ssafyFinApiWebClient
+                            .post()
+                            .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(InquireDemandDepositAccountResponse.class));
+        });
     }
 
     // 계좌 잔액 조회
     @Override
     public Mono<InquireDemandDepositAccountBalanceResponse> inquireDemandDepositAccountBalance(String userKey, String accountNo) {
-        InquireDemandDepositAccountBalanceRequest request = InquireDemandDepositAccountBalanceRequest.builder()
-                .header(createHeader("inquireDemandDepositAccountBalance", apiKey, userKey))
-                .accountNo(accountNo)
-                .build();
-
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_BALANCE)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireDemandDepositAccountBalanceResponse.class);
+        return singleFlight.execute("inquireDemandDepositAccountBalance", FinancialApiSingleFlight.key("inquireDemandDepositAccountBalance", userKey, accountNo), () -> {
+            InquireDemandDepositAccountBalanceRequest request = InquireDemandDepositAccountBalanceRequest.builder()
+                    .header(createHeader("inquireDemandDepositAccountBalance", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .build();
+
+            return cached(
+                    () -> cacheStore.balanceKey(userKey, accountNo),
+                    InquireDemandDepositAccountBalanceResponse.class,
+                    InquireDemandDepositAccountBalanceResponse::getHeader,
+                    resilience.guard("inquireDemandDepositAccountBalance",
+                            ssafyFinApiWebClient
+                                    .post()
+                                    .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_BALANCE)
+                                    .bodyValue(request)
+                                    .retrieve()
+                                    .bodyToMono(InquireDemandDepositAccountBalanceResponse.class)));
+        });
     }
 
     // 계좌 입금
@@ -140,12 +172,15 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .transactionSummary(transactionSummary)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_DEPOSIT)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(UpdateDemandDepositAccountDepositResponse.class);
+        return evictingAfter(
+                resilience.guard("updateDemandDepositAccountDeposit",
+                        ssafyFinApiWebClient
+                                .post()
+                                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_DEPOSIT)
+                                .bodyValue(request)
+                                .retrieve()
+                                .bodyToMono(UpdateDemandDepositAccountDepositResponse.class)),
+                accountNo);
     }
 
     // 계좌 출금
@@ -158,12 +193,15 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .transactionSummary(transactionSummary)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_WITHDRAWAL)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(UpdateDemandDepositAccountWithdrawalResponse.class);
+        return evictingAfter(
+                resilience.guard("updateDemandDepositAccountWithdrawal",
+                        ssafyFinApiWebClient
+                                .post()
+                                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_WITHDRAWAL)
+                                .bodyValue(request)
+                                .retrieve()
+                                .bodyToMono(UpdateDemandDepositAccountWithdrawalResponse.class)),
+                accountNo);
     }
 
     // 계좌 이체
@@ -178,49 +216,87 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .withdrawalTransactionSummary(withdrawalTransactionSummary)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_TRANSFER)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(UpdateDemandDepositAccountTransferResponse.class);
+        return evictingAfter(
+                resilience.guard("updateDemandDepositAccountTransfer",
+                        ssafyFinApiWebClient
+                                .post()
+                                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.UPDATE_DEMAND_DEPOSIT_ACCOUNT_TRANSFER)
+                                .bodyValue(request)
+                                .retrieve()
+                                .bodyToMono(UpdateDemandDepositAccountTransferResponse.class)),
+                depositAccountNo, withdrawalAccountNo);
     }
 
     // 계좌 거래 내역 조회
     @Override
     public Mono<InquireTransactionHistoryListResponse> inquireTransactionHistoryList(String userKey, String accountNo, String startDate, String endDate, String transactionType, String orderByType) {
-        InquireTransactionHistoryListRequest request = InquireTransactionHistoryListRequest.builder()
-                .header(createHeader("inquireTransactionHistoryList", apiKey, userKey))
-                .accountNo(accountNo)
-                .startDate(startDate)
-                .endDate(endDate)
-                .transactionType(transactionType)
-                .orderByType(orderByType)
-                .build();
+        return singleFlight.execute("inquireTransactionHistoryList", FinancialApiSingleFlight.key("inquireTransactionHistoryList", userKey, accountNo, startDate, endDate, transactionType, orderByType), () -> {
+            InquireTransactionHistoryListRequest request = InquireTransactionHistoryListRequest.builder()
+                    .header(createHeader("inquireTransactionHistoryList", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .transactionType(transactionType)
+                    .orderByType(orderByType)
+                    .build();
+
+            return cached(
+                    () -> cacheStore.historyKey(userKey, accountNo, startDate, endDate, transactionType, orderByType),
+                    InquireTransactionHistoryListResponse.class,
+                    InquireTransactionHistoryListResponse::getHeader,
+                    resilience.guard("inquireTransactionHistoryList",
+                            ssafyFinApiWebClient
+                                    .post()
+                                    .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY_LIST)
+                                    .bodyValue(request)
+                                    .retrieve()
+                                    .bodyToMono(InquireTransactionHistoryListResponse.class)));
+        });
+    }
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY_LIST)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireTransactionHistoryListResponse.class);
+    // 계좌 거래 내역 조회(스트리밍)
+    @Override
+    public Flux<InquireTransactionHistoryListREC> streamTransactionHistoryList(String userKey, String accountNo, String startDate, String endDate, String transactionType, String orderByType, Predicate<InquireTransactionHistoryListREC> filter) {
+        return Flux.defer(() -> {
+            InquireTransactionHistoryListRequest request = InquireTransactionHistoryListRequest.builder()
+                    .header(createHeader("inquireTransactionHistoryList", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .transactionType(transactionType)
+                    .orderByType(orderByType)
+                    .build();
+
+            return resilience.guardMany("inquireTransactionHistoryList",
+                    TransactionHistoryStreamDecoder.decode(
+                            ssafyFinApiWebClient
+                                    .post()
+                                    .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY_LIST)
+                                    .bodyValue(request)
+                                    .retrieve()
+                                    .bodyToFlux(DataBuffer.class),
+                            filter));
+        });
     }
 
     // 계좌 거래 내역 조회(단건)
     @Override
     public Mono<InquireTransactionHistoryResponse> inquireTransactionHistory(String userKey, String accountNo, String transactionUniqueNo) {
-        InquireTransactionHistoryRequest request = InquireTransactionHistoryRequest.builder()
-                .header(createHeader("inquireTransactionHistory", apiKey, userKey))
-                .accountNo(accountNo)
-                .transactionUniqueNo(transactionUniqueNo)
-                .build();
-
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireTransactionHistoryResponse.class);
+        return singleFlight.execute("inquireTransactionHistory", FinancialApiSingleFlight.key("inquireTransactionHistory", userKey, accountNo, transactionUniqueNo), () -> {
+            InquireTransactionHistoryRequest request = InquireTransactionHistoryRequest.builder()
+                    .header(createHeader("inquireTransactionHistory", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .transactionUniqueNo(transactionUniqueNo)
+                    .build();
+
+            return resilience.guard("inquireTransactionHistory",
+                    ssafyFinApiWebClient
+                            .post()
+                            .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_TRANSACTION_HISTORY)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(InquireTransactionHistoryResponse.class));
+        });
     }
 
     // 계좌 해지
@@ -231,12 +307,13 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .accountNo(accountNo)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.DELETE_DEMAND_DEPOSIT_ACCOUNT)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(DeleteDemandDepositAccountResponse.class);
+        return resilience.guard("deleteDemandDepositAccount",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.DELETE_DEMAND_DEPOSIT_ACCOUNT)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(DeleteDemandDepositAccountResponse.class));
     }
 
     // 1원 송금(계좌 인증)
@@ -248,12 +325,13 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .authText(authText)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.ACCOUNT_AUTH_BASE + FinancialApiEndpoints.OPEN_ACCOUNT_AUTH)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(OpenAccountAuthResponse.class);
+        return resilience.guard("openAccountAuth",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.ACCOUNT_AUTH_BASE + FinancialApiEndpoints.OPEN_ACCOUNT_AUTH)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(OpenAccountAuthResponse.class));
     }
 
     // 1원 송금 인증 검증
@@ -266,27 +344,86 @@ public class FinancialApiServiceImpl implements FinancialApiService {
                 .authCode(authCode)
                 .build();
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.ACCOUNT_AUTH_BASE + FinancialApiEndpoints.CHECK_AUTH_CODE)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(CheckAuthCodeResponse.class);
+        return resilience.guard("checkAuthCode",
+                ssafyFinApiWebClient
+                        .post()
+                        .uri(FinancialApiEndpoints.ACCOUNT_AUTH_BASE + FinancialApiEndpoints.CHECK_AUTH_CODE)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(CheckAuthCodeResponse.class));
     }
 
     // 예금주 조회
     @Override
     public Mono<InquireDemandDepositAccountHolderNameResponse> inquireDemandDepositAccountHolderName(String userKey, String accountNo) {
-        InquireDemandDepositAccountHolderNameRequest request = InquireDemandDepositAccountHolderNameRequest.builder()
-                .header(createHeader("inquireDemandDepositAccountHolderName", apiKey, userKey))
-                .accountNo(accountNo)
-                .build();
+        return singleFlight.execute("inquireDemandDepositAccountHolderName", FinancialApiSingleFlight.key("inquireDemandDepositAccountHolderName", userKey, accountNo), () -> {
+            InquireDemandDepositAccountHolderNameRequest request = InquireDemandDepositAccountHolderNameRequest.builder()
+                    .header(createHeader("inquireDemandDepositAccountHolderName", apiKey, userKey))
+                    .accountNo(accountNo)
+                    .build();
+
+            return resilience.guard("inquireDemandDepositAccountHolderName",
+                    ssafyFinApiWebClient
+                            .post()
+                            .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_HOLDER_NAME)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(InquireDemandDepositAccountHolderNameResponse.class));
+        });
+    }
+
+    // ===== 조회 캐시 =====
+
+    /** 캐시 히트면 캐시 응답, 미스면 호출 후 정상 응답(H0000)만 저장. Redis 장애 시 캐시 없이 호출 */
+    private <T> Mono<T> cached(Supplier<String> keySupplier, Class<T> type,
+                               Function<T, com.ssafy.tiggle.dto.finopenapi.response.Header> headerOf, Mono<T> call) {
+        if (!cacheStore.isEnabled()) return call;
+
+        return Mono.fromCallable(keySupplier::get)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[FinApiCache] lookup failed — bypass cache: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .flatMap(key -> Mono.fromCallable(() -> cacheStore.get(key, type).orElse(null))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> Mono.empty())
+                        .switchIfEmpty(Mono.defer(() -> call.flatMap(res -> {
+                            var header = headerOf.apply(res);
+                            if (header == null || !"H0000".equals(header.getResponseCode())) return Mono.just(res);
+                            return Mono.fromRunnable(() -> cacheStore.put(key, res))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .thenReturn(res);
+                        }))))
+                .switchIfEmpty(Mono.defer(() -> call));
+    }
+
+    private Header createHeader(String apiName, String apiKey, String userKey) {
+        return FinancialApiHeaderUtil.createHeader(transactionUniqueNoAllocator.next(), apiName, apiKey, userKey);
+    }
 
-        return ssafyFinApiWebClient
-                .post()
-                .uri(FinancialApiEndpoints.DEMAND_DEPOSIT_BASE + FinancialApiEndpoints.INQUIRE_DEMAND_DEPOSIT_ACCOUNT_HOLDER_NAME)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(InquireDemandDepositAccountHolderNameResponse.class);
+    /**
+     * 잔액/거래내역이 바뀌는 호출: 성공/실패와 무관하게 관련 계좌 캐시를 무효화한 뒤 결과 전달.
+     * 원장 워터마크도 같이 무효화해 다음 조회가 동기화 주기를 기다리지 않고 방금 거래를 반영한다.
+     */
+    private <T> Mono<T> evictingAfter(Mono<T> call, String... accountNos) {
+        Mono<Void> evict = Mono.<Void>fromRunnable(() -> {
+                    for (String accountNo : accountNos) cacheStore.evictAccount(accountNo);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[FinApiCache] evict failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.<Void>fromRunnable(() -> ledgerWriter.markStale(Arrays.asList(accountNos)))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("[Ledger] mark stale failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }));
+
+        return call
+                .flatMap(res -> evict.thenReturn(res))
+                .onErrorResume(e -> evict.then(Mono.<T>error(e)));
     }
 }
\ No newline at end of file
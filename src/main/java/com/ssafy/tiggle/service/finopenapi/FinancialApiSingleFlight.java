@@ -0,0 +1,58 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 금융 API 조회가 동시에 여러 번 들어오면 HTTP 호출은 한 번만 하고 결과(Mono)를 공유한다.
+ * 호출이 끝나면 즉시 맵에서 빠지므로 결과를 캐시하지는 않는다 (캐시는 {@link FinancialApiCacheStore}).
+ * 공유 호출은 처음 구독한 쪽의 Context(우선순위)로 실행되므로 우선순위 lane 별로 따로 묶는다 —
+ * 사용자 요청이 먼저 시작된 배치 호출에 합류해 배치 lane 에서 기다리는 일이 없도록.
+ */
+@Component
+@RequiredArgsConstructor
+public class FinancialApiSingleFlight {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerGauge() {
+        meterRegistry.gauge("finapi.singleflight.inflight", inFlight, Map::size);
+    }
+
+    /**
+     * @param apiName 메트릭 태그로 쓰는 API 이름
+     * @param key     요청을 식별하는 키 (apiName + userKey + 파라미터). 우선순위 lane 은 구독 Context 에서 붙인다
+     * @param call    실제 호출 (구독 시점에 한 번만 생성)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String apiName, String key, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(ctx -> {
+            String laneKey = FinancialApiPriority.of(ctx) + "|" + key;
+            boolean[] created = {false};
+            Mono<?> shared = inFlight.computeIfAbsent(laneKey, k -> {
+                created[0] = true;
+                return Mono.defer(call)
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+
+            meterRegistry.counter("finapi.singleflight.requests",
+                    "api", apiName, "result", created[0] ? "miss" : "hit").increment();
+            return (Mono<T>) shared;
+        });
+    }
+
+    public static String key(String apiName, String... parts) {
+        return apiName + "|" + String.join("|", parts);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Predicate;
+
+/**
+ * {@link FinancialApiService#streamTransactionHistoryList} 에 넘기는 거래내역 조건.
+ * 파싱 중에 바로 걸러지므로 조건에 맞지 않는 거래는 메모리에 쌓이지 않는다.
+ */
+public final class TransactionHistoryFilters {
+
+    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private TransactionHistoryFilters() {
+    }
+
+    public static Predicate<InquireTransactionHistoryListREC> all() {
+        return r -> true;
+    }
+
+    /** 입금(거래구분 "1")만 */
+    public static Predicate<InquireTransactionHistoryListREC> depositOnly() {
+        return r -> "1".equals(r.getTransactionType());
+    }
+
+    /** 거래요약 또는 메모에 token 이 포함된 거래 */
+    public static Predicate<InquireTransactionHistoryListREC> tagged(String token) {
+        return r -> contains(r.getTransactionSummary(), token) || contains(r.getTransactionMemo(), token);
+    }
+
+    /** 거래일자가 [from, to] 안에 있는 거래 (양 끝 포함) */
+    public static Predicate<InquireTransactionHistoryListREC> between(LocalDate from, LocalDate to) {
+        String f = from.format(YMD);
+        String t = to.format(YMD);
+        return r -> r.getTransactionDate() != null
+                && r.getTransactionDate().compareTo(f) >= 0
+                && r.getTransactionDate().compareTo(t) <= 0;
+    }
+
+    private static boolean contains(String s, String token) {
+        return s != null && s.contains(token);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
+import com.ssafy.tiggle.exception.account.AccountException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 거래내역 조회 응답을 토큰 단위로 읽어 REC.list 의 거래 한 건씩 내보낸다.
+ * 응답 전체를 버퍼링/역직렬화하지 않으므로 WebClient maxInMemorySize(1MB) 에 걸리지 않고,
+ * 조건에 맞지 않는 거래는 객체로 남기지 않는다.
+ * Header.responseCode 가 H0000 이 아니면 {@link AccountException#bankApiError} 로 실패.
+ */
+final class TransactionHistoryStreamDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String SUCCESS = "H0000";
+
+    // 관심 있는 경로: {"Header": {...}, "REC": {"list": [ {거래}, ... ]}}
+    private static final int MAX_TRACKED_DEPTH = 8;
+
+    private final Predicate<InquireTransactionHistoryListREC> filter;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private final String[] names = new String[MAX_TRACKED_DEPTH];
+    private int depth;
+
+    private InquireTransactionHistoryListREC.InquireTransactionHistoryListRECBuilder current;
+    private String responseCode;
+    private String responseMessage;
+
+    private TransactionHistoryStreamDecoder(Predicate<InquireTransactionHistoryListREC> filter) {
+        this.filter = filter;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /** 구독마다 새 파서를 만든다 (파서 상태는 구독 하나에만 속함) */
+    static Flux<InquireTransactionHistoryListREC> decode(Flux<DataBuffer> body, Predicate<InquireTransactionHistoryListREC> filter) {
+        return Flux.defer(() -> {
+            TransactionHistoryStreamDecoder decoder = new TransactionHistoryStreamDecoder(filter);
+            return body
+                    .concatMapIterable(decoder::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.finish())))
+                    .doFinally(signal -> decoder.close());
+        });
+    }
+
+    private List<InquireTransactionHistoryListREC> feed(DataBuffer buffer) {
+        try {
+            byte[] chunk = new byte[buffer.readableByteCount()];
+            buffer.read(chunk);
+            feeder.feedInput(chunk, 0, chunk.length);
+            return drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private List<InquireTransactionHistoryListREC> finish() {
+        feeder.endOfInput();
+        try {
+            List<InquireTransactionHistoryListREC> out = drain();
+            if (depth != 0) {
+                throw new IllegalStateException("transaction history response truncated");
+            }
+            checkResponseCode();
+            return out;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<InquireTransactionHistoryListREC> drain() throws IOException {
+        List<InquireTransactionHistoryListREC> out = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (depth < MAX_TRACKED_DEPTH) names[depth] = parser.currentName();
+                    depth++;
+                    if (token == JsonToken.START_OBJECT && inListElement()) {
+                        current = InquireTransactionHistoryListREC.builder();
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (token == JsonToken.END_OBJECT && inListElement() && current != null) {
+                        InquireTransactionHistoryListREC rec = current.build();
+                        current = null;
+                        if (filter.test(rec)) out.add(rec);
+                    }
+                    boolean headerClosed = inHeader();
+                    depth--;
+                    // Header 가 목록보다 먼저 오므로 실패 응답이면 목록을 읽기 전에 끝낸다
+                    if (headerClosed) checkResponseCode();
+                }
+                case FIELD_NAME -> { }
+                default -> onScalar(parser.currentName(), token == JsonToken.VALUE_NULL ? null : parser.getText());
+            }
+        }
+        return out;
+    }
+
+    private void onScalar(String name, String value) {
+        if (name == null) return;
+
+        if (inListElement() && current != null) {
+            switch (name) {
+                case "transactionUniqueNo" -> current.transactionUniqueNo(value);
+                case "transactionDate" -> current.transactionDate(value);
+                case "transactionTime" -> current.transactionTime(value);
+                case "transactionType" -> current.transactionType(value);
+                case "transactionTypeName" -> current.transactionTypeName(value);
+                case "transactionAccountNo" -> current.transactionAccountNo(value);
+                case "transactionBalance" -> current.transactionBalance(value);
+                case "transactionAfterBalance" -> current.transactionAfterBalance(value);
+                case "transactionSummary" -> current.transactionSummary(value);
+                case "transactionMemo" -> current.transactionMemo(value);
+                default -> { }
+            }
+            return;
+        }
+        // 정상 응답은 Header 안에, 오류 응답은 최상위에 responseCode 가 온다
+        if (inHeader() || depth == 1) {
+            if ("responseCode".equals(name)) responseCode = value;
+            else if ("responseMessage".equals(name)) responseMessage = value;
+        }
+    }
+
+    private boolean inHeader() {
+        return depth == 2 && "Header".equals(names[1]);
+    }
+
+    private boolean inListElement() {
+        return depth == 4 && "REC".equals(names[1]) && "list".equals(names[2]);
+    }
+
+    private void checkResponseCode() {
+        if (responseCode != null && !SUCCESS.equals(responseCode)) {
+            throw AccountException.bankApiError(responseMessage != null ? responseMessage : "거래내역 조회에 실패했습니다.");
+        }
+    }
+
+    private void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // 파서는 외부 자원을 갖지 않음
+        }
+    }
+}
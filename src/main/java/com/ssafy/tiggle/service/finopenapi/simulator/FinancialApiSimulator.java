@@ -0,0 +1,382 @@
+package com.ssafy.tiggle.service.finopenapi.simulator;
+
+import com.ssafy.tiggle.dto.finopenapi.response.*;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSAFY 금융 API 인메모리 대역 (finapi-sim 프로필).
+ * 계좌/잔액/거래내역을 메모리에 보관하고 FinancialApiServiceImpl 이 쓰는 수시입출금 API 를 흉내낸다.
+ * 부하 테스트용이므로 영속성은 없고, 재시작하면 초기화된다.
+ */
+@Slf4j
+@Component
+@Profile("finapi-sim")
+public class FinancialApiSimulator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HMS = DateTimeFormatter.ofPattern("HHmmss");
+    private static final String BANK_CODE = "088";
+
+    // 모르는 계좌번호로 요청이 오면 자동으로 만들어 줌 (DB 에 이미 있는 계좌번호로 바로 테스트하기 위함)
+    @Value("${finapi-sim.auto-provision:true}")
+    private boolean autoProvision;
+
+    @Value("${finapi-sim.initial-balance:1000000}")
+    private long initialBalance;
+
+    private final Map<String, SimAccount> accounts = new ConcurrentHashMap<>();
+    private final Map<String, SimUser> usersById = new ConcurrentHashMap<>();
+    private final AtomicLong accountSeq = new AtomicLong(1);
+    private final AtomicLong txSeq = new AtomicLong(1);
+
+    /** 업스트림 오류 응답 (HTTP 400 + responseCode) */
+    @Getter
+    public static class SimulatorError extends RuntimeException {
+        private final String code;
+
+        public SimulatorError(String code, String message) {
+            super(message);
+            this.code = code;
+        }
+    }
+
+    // ===== 사용자 =====
+
+    public UserResponse createUser(String userId) {
+        if (usersById.containsKey(userId)) throw new SimulatorError("E4002", "이미 존재하는 ID입니다.");
+        SimUser u = new SimUser(userId, UUID.randomUUID().toString(), now());
+        usersById.put(userId, u);
+        return toUserResponse(u);
+    }
+
+    public UserResponse searchUser(String userId) {
+        SimUser u = usersById.get(userId);
+        if (u == null) throw new SimulatorError("E4003", "존재하지 않는 ID입니다.");
+        return toUserResponse(u);
+    }
+
+    // ===== 계좌 =====
+
+    public CreateDemandDepositAccountResponse createAccount(String userKey, String apiName) {
+        String accountNo = BANK_CODE + String.format("%013d", accountSeq.getAndIncrement());
+        accounts.put(accountNo, new SimAccount(accountNo, userKey, 0L, now()));
+
+        return CreateDemandDepositAccountResponse.builder()
+                .header(ok(apiName))
+                .rec(CreateDemandDepositAccountREC.builder()
+                        .bankCode(BANK_CODE)
+                        .accountNo(accountNo)
+                        .currency(Currency.builder().currency("KRW").currencyName("원화").build())
+                        .build())
+                .build();
+    }
+
+    public InquireDemandDepositAccountListResponse listAccounts(String userKey, String apiName) {
+        List<InquireDemandDepositAccountListREC> list = accounts.values().stream()
+                .filter(a -> Objects.equals(a.ownerKey, userKey))
+                .sorted(Comparator.comparing(a -> a.accountNo))
+                .map(a -> {
+                    synchronized (a) {
+                        return InquireDemandDepositAccountListREC.builder()
+                                .bankCode(BANK_CODE).bankName("싸피은행").userName(a.ownerKey)
+                                .accountNo(a.accountNo).accountName("수시입출금").accountTypeCode("1").accountTypeName("수시입출금")
+                                .accountCreatedDate(a.createdAt.format(YMD)).accountExpiryDate("29991231")
+                                .dailyTransferLimit("500000000").oneTimeTransferLimit("100000000")
+                                .accountBalance(String.valueOf(a.balance)).lastTransactionDate(a.lastTransactionDate())
+                                .currency("KRW")
+                                .build();
+                    }
+                })
+                .toList();
+
+        return InquireDemandDepositAccountListResponse.builder().header(ok(apiName)).rec(list).build();
+    }
+
+    public InquireDemandDepositAccountResponse getAccount(String userKey, String accountNo, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        synchronized (a) {
+            return InquireDemandDepositAccountResponse.builder()
+                    .header(ok(apiName))
+                    .rec(InquireDemandDepositAccountREC.builder()
+                            .bankCode(BANK_CODE).bankName("싸피은행").userName(a.ownerKey)
+                            .accountNo(a.accountNo).accountName("수시입출금").accountTypeCode("1").accountTypeName("수시입출금")
+                            .accountCreatedDate(a.createdAt.format(YMD)).accountExpiryDate("29991231")
+                            .dailyTransferLimit("500000000").oneTimeTransferLimit("100000000")
+                            .accountBalance(String.valueOf(a.balance)).lastTransactionDate(a.lastTransactionDate())
+                            .currency("KRW")
+                            .build())
+                    .build();
+        }
+    }
+
+    public InquireDemandDepositAccountBalanceResponse getBalance(String userKey, String accountNo, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        synchronized (a) {
+            return InquireDemandDepositAccountBalanceResponse.builder()
+                    .header(ok(apiName))
+                    .rec(InquireDemandDepositAccountBalanceREC.builder()
+                            .bankCode(BANK_CODE).accountNo(a.accountNo).accountBalance(String.valueOf(a.balance))
+                            .accountCreatedDate(a.createdAt.format(YMD)).accountExpiryDate("29991231")
+                            .lastTransactionDate(a.lastTransactionDate()).currency("KRW")
+                            .build())
+                    .build();
+        }
+    }
+
+    public InquireDemandDepositAccountHolderNameResponse getHolderName(String userKey, String accountNo, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        return InquireDemandDepositAccountHolderNameResponse.builder()
+                .header(ok(apiName))
+                .rec(InquireDemandDepositAccountHolderNameREC.builder()
+                        .bankCode(BANK_CODE).bankName("싸피은행").accountNo(a.accountNo).userName(a.ownerKey).currency("KRW")
+                        .build())
+                .build();
+    }
+
+    public DeleteDemandDepositAccountResponse deleteAccount(String userKey, String accountNo, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        accounts.remove(accountNo);
+        synchronized (a) {
+            return DeleteDemandDepositAccountResponse.builder()
+                    .header(ok(apiName))
+                    .rec(DeleteDemandDepositAccountREC.builder()
+                            .status("CLOSED").accountNo(accountNo).refundAccountNo("").accountBalance(String.valueOf(a.balance))
+                            .build())
+                    .build();
+        }
+    }
+
+    // ===== 입출금/이체 =====
+
+    public UpdateDemandDepositAccountDepositResponse deposit(String userKey, String accountNo, long amount, String summary, String apiName) {
+        requireAmount(amount);
+        SimAccount a = account(accountNo, userKey);
+        SimTx tx;
+        synchronized (a) {
+            tx = a.apply(nextTxNo(), amount, "1", "입금", "", summary);
+        }
+        return UpdateDemandDepositAccountDepositResponse.builder()
+                .header(ok(apiName))
+                .rec(UpdateDemandDepositAccountDepositREC.builder().transactionUniqueNo(tx.uniqueNo).transactionDate(tx.date).build())
+                .build();
+    }
+
+    public UpdateDemandDepositAccountWithdrawalResponse withdraw(String userKey, String accountNo, long amount, String summary, String apiName) {
+        requireAmount(amount);
+        SimAccount a = account(accountNo, userKey);
+        SimTx tx;
+        synchronized (a) {
+            requireBalance(a, amount);
+            tx = a.apply(nextTxNo(), -amount, "2", "출금", "", summary);
+        }
+        return UpdateDemandDepositAccountWithdrawalResponse.builder()
+                .header(ok(apiName))
+                .rec(UpdateDemandDepositAccountWithdrawalREC.builder().transactionUniqueNo(tx.uniqueNo).transactionDate(tx.date).build())
+                .build();
+    }
+
+    public UpdateDemandDepositAccountTransferResponse transfer(String userKey, String depositAccountNo, String depositSummary, long amount,
+                                                               String withdrawalAccountNo, String withdrawalSummary, String apiName) {
+        if (Objects.equals(depositAccountNo, withdrawalAccountNo)) {
+            throw new SimulatorError("A1011", "입금계좌와 출금계좌가 같습니다.");
+        }
+        requireAmount(amount);
+        SimAccount from = account(withdrawalAccountNo, userKey);
+        SimAccount to = account(depositAccountNo, null);
+
+        // 교착 방지: 계좌번호 순서로 잠금
+        SimAccount first = from.accountNo.compareTo(to.accountNo) < 0 ? from : to;
+        SimAccount second = first == from ? to : from;
+
+        SimTx wd, dp;
+        synchronized (first) {
+            synchronized (second) {
+                requireBalance(from, amount);
+                wd = from.apply(nextTxNo(), -amount, "2", "출금(이체)", to.accountNo, withdrawalSummary);
+                dp = to.apply(nextTxNo(), amount, "1", "입금(이체)", from.accountNo, depositSummary);
+            }
+        }
+
+        return UpdateDemandDepositAccountTransferResponse.builder()
+                .header(ok(apiName))
+                .rec(List.of(
+                        UpdateDemandDepositAccountTransferREC.builder()
+                                .transactionUniqueNo(dp.uniqueNo).accountNo(to.accountNo).transactionDate(dp.date)
+                                .transactionType("1").transactionTypeName("입금(이체)").transactionAccountNo(from.accountNo)
+                                .build(),
+                        UpdateDemandDepositAccountTransferREC.builder()
+                                .transactionUniqueNo(wd.uniqueNo).accountNo(from.accountNo).transactionDate(wd.date)
+                                .transactionType("2").transactionTypeName("출금(이체)").transactionAccountNo(to.accountNo)
+                                .build()))
+                .build();
+    }
+
+    // ===== 거래내역 =====
+
+    public InquireTransactionHistoryListResponse history(String userKey, String accountNo, String startDate, String endDate,
+                                                         String transactionType, String orderByType, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        List<SimTx> snapshot;
+        synchronized (a) {
+            snapshot = new ArrayList<>(a.history);
+        }
+
+        String typeCode = switch (transactionType == null ? "A" : transactionType) {
+            case "M" -> "1"; // 입금
+            case "D" -> "2"; // 출금
+            default -> null;
+        };
+
+        List<InquireTransactionHistoryListREC> list = snapshot.stream()
+                .filter(t -> t.date.compareTo(startDate) >= 0 && t.date.compareTo(endDate) <= 0)
+                .filter(t -> typeCode == null || typeCode.equals(t.type))
+                .sorted("DESC".equalsIgnoreCase(orderByType)
+                        ? Comparator.comparing((SimTx t) -> t.seq).reversed()
+                        : Comparator.comparing((SimTx t) -> t.seq))
+                .map(t -> InquireTransactionHistoryListREC.builder()
+                        .transactionUniqueNo(t.uniqueNo).transactionDate(t.date).transactionTime(t.time)
+                        .transactionType(t.type).transactionTypeName(t.typeName).transactionAccountNo(t.counterAccountNo)
+                        .transactionBalance(String.valueOf(t.amount)).transactionAfterBalance(String.valueOf(t.afterBalance))
+                        .transactionSummary(t.summary).transactionMemo("")
+                        .build())
+                .toList();
+
+        return InquireTransactionHistoryListResponse.builder()
+                .header(ok(apiName))
+                .rec(TransactionHistoryListRec.builder().totalCount(String.valueOf(list.size())).list(list).build())
+                .build();
+    }
+
+    public InquireTransactionHistoryResponse historyOne(String userKey, String accountNo, String transactionUniqueNo, String apiName) {
+        SimAccount a = account(accountNo, userKey);
+        SimTx t;
+        synchronized (a) {
+            t = a.history.stream().filter(x -> x.uniqueNo.equals(transactionUniqueNo)).findFirst()
+                    .orElseThrow(() -> new SimulatorError("A1020", "존재하지 않는 거래입니다."));
+        }
+        return InquireTransactionHistoryResponse.builder()
+                .header(ok(apiName))
+                .rec(InquireTransactionHistoryREC.builder()
+                        .transactionUniqueNo(t.uniqueNo).transactionDate(t.date).transactionTime(t.time)
+                        .transactionType(t.type).transactionTypeName(t.typeName).transactionAccountNo(t.counterAccountNo)
+                        .transactionBalance(String.valueOf(t.amount)).transactionAfterBalance(String.valueOf(t.afterBalance))
+                        .transactionSummary(t.summary).transactionMemo("")
+                        .build())
+                .build();
+    }
+
+    // ===== 관리 =====
+
+    public void reset() {
+        accounts.clear();
+        usersById.clear();
+    }
+
+    public Map<String, Object> stats() {
+        long txCount = accounts.values().stream().mapToLong(a -> {
+            synchronized (a) { return a.history.size(); }
+        }).sum();
+        return Map.of("accounts", accounts.size(), "users", usersById.size(), "transactions", txCount);
+    }
+
+    // ===== 내부 =====
+
+    /**
+     * 계좌 조회. ownerKey 가 주어지면 소유자 검사 (자동 생성된 계좌는 처음 접근한 userKey 가 소유자).
+     */
+    private SimAccount account(String accountNo, String ownerKey) {
+        if (accountNo == null || accountNo.isBlank()) throw new SimulatorError("A1003", "계좌번호가 유효하지 않습니다.");
+
+        SimAccount a = autoProvision
+                ? accounts.computeIfAbsent(accountNo, no -> new SimAccount(no, ownerKey, initialBalance, now()))
+                : accounts.get(accountNo);
+        if (a == null) throw new SimulatorError("A1003", "계좌번호가 유효하지 않습니다.");
+        if (ownerKey != null && a.ownerKey != null && !a.ownerKey.equals(ownerKey)) {
+            throw new SimulatorError("A1001", "계좌 소유자가 아닙니다.");
+        }
+        return a;
+    }
+
+    /** 실제 API 처럼 0 이하 금액은 계좌를 건드리기 전에 거절 (A1012) */
+    private static void requireAmount(long amount) {
+        if (amount <= 0) throw new SimulatorError("A1012", "거래금액이 유효하지 않습니다.");
+    }
+
+    private static void requireBalance(SimAccount a, long amount) {
+        if (a.balance < amount) throw new SimulatorError("A1014", "계좌잔액이 부족하여 거래가 실패했습니다.");
+    }
+
+    private String nextTxNo() {
+        return String.valueOf(txSeq.getAndIncrement());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(KST);
+    }
+
+    private static Header ok(String apiName) {
+        LocalDateTime now = now();
+        return Header.builder()
+                .responseCode("H0000")
+                .responseMessage("정상처리 되었습니다.")
+                .apiName(apiName)
+                .transmissionDate(now.format(YMD))
+                .transmissionTime(now.format(HMS))
+                .institutionCode("00100")
+                .apiServiceCode(apiName)
+                .build();
+    }
+
+    private static UserResponse toUserResponse(SimUser u) {
+        return UserResponse.builder()
+                .userId(u.userId).userName(u.userId).institutionCode("00100").userKey(u.userKey)
+                .created(u.createdAt.toString()).modified(u.createdAt.toString())
+                .build();
+    }
+
+    private record SimUser(String userId, String userKey, LocalDateTime createdAt) {}
+
+    private record SimTx(long seq, String uniqueNo, String date, String time, String type, String typeName,
+                         String counterAccountNo, long amount, long afterBalance, String summary) {}
+
+    /** 잔액/내역 변경은 계좌 객체 모니터로 보호 */
+    private static final class SimAccount {
+        private final String accountNo;
+        private final String ownerKey;
+        private final LocalDateTime createdAt;
+        private final List<SimTx> history = new ArrayList<>();
+        private long balance;
+
+        private SimAccount(String accountNo, String ownerKey, long balance, LocalDateTime createdAt) {
+            this.accountNo = accountNo;
+            this.ownerKey = ownerKey;
+            this.balance = balance;
+            this.createdAt = createdAt;
+        }
+
+        private SimTx apply(String uniqueNo, long signedAmount, String type, String typeName, String counter, String summary) {
+            balance += signedAmount;
+            LocalDateTime now = now();
+            SimTx tx = new SimTx(Long.parseLong(uniqueNo), uniqueNo, now.format(YMD), now.format(HMS), type, typeName,
+                    counter, Math.abs(signedAmount), balance, summary == null ? "" : summary);
+            history.add(tx);
+            return tx;
+        }
+
+        private String lastTransactionDate() {
+            return history.isEmpty() ? "" : history.get(history.size() - 1).date;
+        }
+    }
+}
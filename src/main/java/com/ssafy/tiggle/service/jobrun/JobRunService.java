@@ -0,0 +1,43 @@
+package com.ssafy.tiggle.service.jobrun;
+
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunItemStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface JobRunService {
+
+    // (작업, 회차, 범위) 체크포인트 조회/생성 후 RUNNING 으로 시작. 이미 COMPLETED 면 그대로 반환
+    JobRun start(String jobName, String runKey, String scope);
+
+    // 회차 안에서 아직 끝나지 않은(RUNNING/FAILED) 범위 — 재개 대상
+    List<String> unfinishedScopes(String jobName, String runKey);
+
+    // 주어진 항목 중 다시 처리할 필요 없는(DONE/SKIPPED) 항목 키
+    Set<String> finishedItems(Long jobRunId, Collection<String> itemKeys);
+
+    // 주어진 항목 중 이전 시도가 실패한(FAILED) 항목 키 — 외부 호출 결과가 불확실했을 수 있어 재시도 전 확인용
+    Set<String> failedItems(Long jobRunId, Collection<String> itemKeys);
+
+    // 주어진 항목 중 DONE 항목의 기록 금액
+    Map<String, Long> doneAmounts(Long jobRunId, Collection<String> itemKeys);
+
+    // 다시 시도해야 할(FAILED) 항목이 남아 있는지 — 있으면 재개 시 체크포인트 앞부분도 다시 읽는다
+    boolean hasFailedItems(Long jobRunId);
+
+    // 항목 처리 결과 기록 (같은 항목은 덮어씀)
+    void recordItem(Long jobRunId, String itemKey, JobRunItemStatus status, long amount, String groupKey, String message);
+
+    // 청크 처리 완료 — 재개 지점 갱신
+    void checkpoint(Long jobRunId, Long lastProcessedId);
+
+    void complete(Long jobRunId);
+
+    void fail(Long jobRunId, String error);
+
+    // 그룹별 DONE 금액 합계 (재개 시 이미 처리한 금액 복원)
+    Map<String, Long> sumDoneByGroup(Long jobRunId);
+}
@@ -0,0 +1,158 @@
+package com.ssafy.tiggle.service.jobrun;
+
+import com.ssafy.tiggle.entity.JobRun;
+import com.ssafy.tiggle.entity.JobRunItem;
+import com.ssafy.tiggle.entity.JobRunItemStatus;
+import com.ssafy.tiggle.entity.JobRunStatus;
+import com.ssafy.tiggle.repository.jobrun.JobRunItemRepository;
+import com.ssafy.tiggle.repository.jobrun.JobRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobRunServiceImpl implements JobRunService {
+
+    private final JobRunRepository jobRunRepository;
+    private final JobRunItemRepository jobRunItemRepository;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Override
+    @Transactional
+    public JobRun start(String jobName, String runKey, String scope) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        JobRun run = jobRunRepository.findByJobNameAndRunKeyAndScope(jobName, runKey, scope)
+                .orElseGet(() -> JobRun.builder()
+                        .jobName(jobName)
+                        .runKey(runKey)
+                        .scope(scope)
+                        .lastProcessedId(0L)
+                        .attempts(0)
+                        .build());
+
+        if (run.getStatus() == JobRunStatus.COMPLETED) return run;
+
+        if (run.getId() != null) {
+            log.info("[JobRun] resume {} run={} scope={} from id>{} (attempt {})",
+                    jobName, runKey, scope, run.getLastProcessedId(), run.getAttempts() + 1);
+        }
+        run.setStatus(JobRunStatus.RUNNING);
+        run.setAttempts(run.getAttempts() + 1);
+        run.setLastError(null);
+        run.setUpdatedAt(now);
+        return jobRunRepository.save(run);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> unfinishedScopes(String jobName, String runKey) {
+        return jobRunRepository.findByJobNameAndRunKeyAndStatusNot(jobName, runKey, JobRunStatus.COMPLETED).stream()
+                .map(JobRun::getScope)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> finishedItems(Long jobRunId, Collection<String> itemKeys) {
+        if (itemKeys.isEmpty()) return Set.of();
+        return new HashSet<>(jobRunItemRepository.findFinishedKeys(jobRunId, itemKeys));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> failedItems(Long jobRunId, Collection<String> itemKeys) {
+        if (itemKeys.isEmpty()) return Set.of();
+        return new HashSet<>(jobRunItemRepository.findFailedKeys(jobRunId, itemKeys));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> doneAmounts(Long jobRunId, Collection<String> itemKeys) {
+        if (itemKeys.isEmpty()) return Map.of();
+        Map<String, Long> amounts = new HashMap<>();
+        for (Object[] row : jobRunItemRepository.findDoneAmounts(jobRunId, itemKeys)) {
+            amounts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return amounts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasFailedItems(Long jobRunId) {
+        return jobRunItemRepository.existsByJobRunIdAndStatus(jobRunId, JobRunItemStatus.FAILED);
+    }
+
+    @Override
+    @Transactional
+    public void recordItem(Long jobRunId, String itemKey, JobRunItemStatus status, long amount, String groupKey, String message) {
+        JobRunItem item = jobRunItemRepository.findByJobRunIdAndItemKey(jobRunId, itemKey)
+                .orElseGet(() -> JobRunItem.builder()
+                        .jobRunId(jobRunId)
+                        .itemKey(itemKey)
+                        .build());
+        item.setStatus(status);
+        item.setAmount(amount);
+        item.setGroupKey(groupKey);
+        item.setMessage(truncate(message, 300));
+        item.setUpdatedAt(LocalDateTime.now(KST));
+        jobRunItemRepository.save(item);
+    }
+
+    @Override
+    @Transactional
+    public void checkpoint(Long jobRunId, Long lastProcessedId) {
+        jobRunRepository.findById(jobRunId).ifPresent(run -> {
+            if (lastProcessedId > run.getLastProcessedId()) run.setLastProcessedId(lastProcessedId);
+            run.setUpdatedAt(LocalDateTime.now(KST));
+        });
+    }
+
+    @Override
+    @Transactional
+    public void complete(Long jobRunId) {
+        jobRunRepository.findById(jobRunId).ifPresent(run -> {
+            LocalDateTime now = LocalDateTime.now(KST);
+            run.setStatus(JobRunStatus.COMPLETED);
+            run.setUpdatedAt(now);
+            run.setFinishedAt(now);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void fail(Long jobRunId, String error) {
+        jobRunRepository.findById(jobRunId).ifPresent(run -> {
+            run.setStatus(JobRunStatus.FAILED);
+            run.setLastError(truncate(error, 500));
+            run.setUpdatedAt(LocalDateTime.now(KST));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> sumDoneByGroup(Long jobRunId) {
+        Map<String, Long> sums = new HashMap<>();
+        for (Object[] row : jobRunItemRepository.sumDoneByGroup(jobRunId)) {
+            sums.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return sums;
+    }
+
+    private static String truncate(String s, int max) {
+        if (s == null) return null;
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.tiggle.service.ledger;
+
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TransactionLedgerService {
+
+    // 원장 기준 거래내역 조회 (필요 시 워터마크부터 증분 동기화, orderByType: ASC/DESC)
+    Mono<List<InquireTransactionHistoryListREC>> getHistory(String userKey, String accountNo, LocalDate startDate, LocalDate endDate, String orderByType);
+
+    // 동기화 주기와 무관하게 최신 거래까지 반영한 뒤 조회 (멱등성 체크 등 정합성이 중요한 경로)
+    Mono<List<InquireTransactionHistoryListREC>> getFreshHistory(String userKey, String accountNo, LocalDate startDate, LocalDate endDate, String orderByType);
+
+    // 워터마크부터 최신 거래까지 원장에 반영만 (잔돈 저축처럼 원장을 직접 읽는 경로)
+    Mono<Void> refresh(String userKey, String accountNo);
+}
@@ -0,0 +1,214 @@
+package com.ssafy.tiggle.service.ledger;
+
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
+import com.ssafy.tiggle.entity.LedgerTransaction;
+import com.ssafy.tiggle.entity.LedgerWatermark;
+import com.ssafy.tiggle.repository.ledger.LedgerTransactionRepository;
+import com.ssafy.tiggle.repository.ledger.LedgerWatermarkRepository;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.finopenapi.FinancialApiSingleFlight;
+import com.ssafy.tiggle.service.finopenapi.TransactionHistoryFilters;
+import com.ssafy.tiggle.util.UserKeyHashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionLedgerServiceImpl implements TransactionLedgerService {
+
+    private final FinancialApiService financialApiService;
+    private final LedgerTransactionRepository ledgerTransactionRepository;
+    private final LedgerWatermarkRepository ledgerWatermarkRepository;
+    private final TransactionLedgerWriter ledgerWriter;
+    private final FinancialApiSingleFlight singleFlight;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HMS = DateTimeFormatter.ofPattern("HHmmss");
+
+    // 최초 동기화 시 가져올 과거 구간
+    @Value("${ledger.backfill-months:6}")
+    private int backfillMonths;
+
+    // 이 시간 안에 동기화한 계좌는 외부 API 호출 없이 원장만 조회
+    @Value("${ledger.sync-interval-seconds:30}")
+    private long syncIntervalSeconds;
+
+    // 원장 반영 청크 크기 (청크마다 짧은 트랜잭션)
+    @Value("${ledger.store-chunk-size:500}")
+    private int storeChunkSize;
+
+    @Override
+    public Mono<List<InquireTransactionHistoryListREC>> getHistory(String userKey, String accountNo, LocalDate startDate, LocalDate endDate, String orderByType) {
+        return read(userKey, accountNo, startDate, endDate, orderByType, false);
+    }
+
+    @Override
+    public Mono<List<InquireTransactionHistoryListREC>> getFreshHistory(String userKey, String accountNo, LocalDate startDate, LocalDate endDate, String orderByType) {
+        return read(userKey, accountNo, startDate, endDate, orderByType, true);
+    }
+
+    @Override
+    public Mono<Void> refresh(String userKey, String accountNo) {
+        // 당일 구간만 되읽으므로 조회 자체는 가볍고, 동기화는 워터마크 기준 증분
+        LocalDate today = LocalDate.now(KST);
+        return read(userKey, accountNo, today, today, "ASC", true).then();
+    }
+
+    private Mono<List<InquireTransactionHistoryListREC>> read(String userKey, String accountNo, LocalDate startDate, LocalDate endDate,
+                                                            String orderByType, boolean force) {
+        final String ownerKeyHash = UserKeyHashUtil.sha256Hex(userKey);
+
+        return Mono.fromCallable(() -> ledgerWatermarkRepository.findById(accountNo))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(wmOpt -> {
+                    LedgerWatermark wm = wmOpt.orElse(null);
+
+                    // 다른 userKey 로 동기화된 계좌는 원장을 내주지 않고 외부 API 의 권한 검사에 맡김
+                    if (wm != null && !ownerKeyHash.equals(wm.getOwnerKeyHash())) {
+                        log.warn("[Ledger] owner mismatch — bypass ledger (account={})", accountNo);
+                        return fetchDirect(userKey, accountNo, startDate, endDate, orderByType);
+                    }
+
+                    // 동기화 실패 시: 이미 요청 구간을 덮고 있고 강제 동기화가 아니면 직전 원장으로 응답
+                    boolean servableWhenStale = !force && wm != null && !startDate.isBefore(wm.getCoveredFrom());
+
+                    return sync(userKey, ownerKeyHash, accountNo, wm, startDate, force)
+                            .onErrorResume(e -> {
+                                if (!servableWhenStale) return Mono.error(e);
+                                log.warn("[Ledger] sync failed — serve stale ledger (account={}, msg={})", accountNo, e.getMessage());
+                                return Mono.empty();
+                            })
+                            .then(Mono.fromCallable(() -> query(accountNo, startDate, endDate, orderByType))
+                                    .subscribeOn(Schedulers.boundedElastic()));
+                });
+    }
+
+    /** 워터마크 기준 증분 동기화 (+ 요청 시작일이 원장 범위 밖이면 과거 구간 백필) */
+    private Mono<Void> sync(String userKey, String ownerKeyHash, String accountNo, LedgerWatermark wm,
+                            LocalDate startDate, boolean force) {
+        LocalDate today = LocalDate.now(KST);
+
+        if (wm == null) {
+            LocalDate backfillFrom = today.minusMonths(backfillMonths);
+            LocalDate from = startDate.isBefore(backfillFrom) ? startDate : backfillFrom;
+            return fetchAndStore(userKey, ownerKeyHash, accountNo, from, today, LocalDateTime.now(KST));
+        }
+
+        Mono<Void> backfill = startDate.isBefore(wm.getCoveredFrom())
+                ? fetchAndStore(userKey, ownerKeyHash, accountNo, startDate, wm.getCoveredFrom().minusDays(1), null)
+                : Mono.empty();
+
+        // 앱이 직접 거래한 뒤(invalidatedAt)에 시작된 동기화가 아니면 주기와 상관없이 다시 동기화
+        boolean stale = force
+                || wm.getLastSyncedAt() == null
+                || (wm.getInvalidatedAt() != null && !wm.getLastSyncedAt().isAfter(wm.getInvalidatedAt()))
+                || wm.getLastSyncedAt().isBefore(LocalDateTime.now(KST).minusSeconds(syncIntervalSeconds));
+
+        // 마지막 동기화 일자부터 다시 조회 (당일 거래는 이후에 추가될 수 있으므로)
+        Mono<Void> forward = stale
+                ? fetchAndStore(userKey, ownerKeyHash, accountNo, wm.getSyncedThrough(), today, LocalDateTime.now(KST))
+                : Mono.empty();
+
+        return backfill.then(forward);
+    }
+
+    /**
+     * 6개월 백필처럼 큰 응답도 스트리밍으로 받아 청크 단위로 원장에 반영 (응답 전체를 메모리에 모으지 않음).
+     * 같은 계좌·구간 동기화가 동시에 여러 번 들어오면(홈 화면 동시 조회, 잔돈 저축 조회 등) 외부 호출/반영은 한 번만 하고 결과를 공유한다.
+     * 워터마크는 모든 청크를 반영한 뒤에만 올리므로, 중간에 실패하면 다음 동기화가 같은 구간을 다시 읽는다 (이미 들어간 거래는 무시됨).
+     */
+    private Mono<Void> fetchAndStore(String userKey, String ownerKeyHash, String accountNo,
+                                     LocalDate from, LocalDate to, LocalDateTime syncedAt) {
+        String key = FinancialApiSingleFlight.key("ledgerSync", accountNo, ownerKeyHash, from.format(YMD), to.format(YMD));
+        return singleFlight.execute("ledgerSync", key, () -> financialApiService
+                .streamTransactionHistoryList(userKey, accountNo, from.format(YMD), to.format(YMD), "A", "ASC",
+                        r -> r.getTransactionUniqueNo() != null && !r.getTransactionUniqueNo().isBlank())
+                .map(r -> toLedgerRow(accountNo, r))
+                .buffer(Math.max(1, storeChunkSize))
+                .concatMap(rows -> Mono.fromCallable(() -> ledgerWriter.insertRows(rows))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .reduce(0, Integer::sum)
+                .flatMap(inserted -> Mono.fromRunnable(() -> ledgerWriter.markSynced(accountNo, ownerKeyHash, from, to, syncedAt))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doOnSuccess(v -> log.debug("[Ledger] stored account={}, range={}~{}, inserted={}", accountNo, from, to, inserted)))
+                .then());
+    }
+
+    // 원장을 쓸 수 없는 경우(소유자 불일치)만 외부 API 직접 조회. 같은 조회가 동시에 오면 한 번만 호출
+    private Mono<List<InquireTransactionHistoryListREC>> fetchDirect(String userKey, String accountNo, LocalDate startDate,
+                                                                   LocalDate endDate, String orderByType) {
+        String key = FinancialApiSingleFlight.key("ledgerDirect", UserKeyHashUtil.sha256Hex(userKey), accountNo,
+                startDate.format(YMD), endDate.format(YMD), orderByType);
+        return singleFlight.execute("ledgerDirect", key, () -> financialApiService
+                .streamTransactionHistoryList(userKey, accountNo, startDate.format(YMD), endDate.format(YMD), "A", orderByType,
+                        TransactionHistoryFilters.all())
+                .collectList());
+    }
+
+    private List<InquireTransactionHistoryListREC> query(String accountNo, LocalDate startDate, LocalDate endDate, String orderByType) {
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+
+        List<LedgerTransaction> rows = "DESC".equalsIgnoreCase(orderByType)
+                ? ledgerTransactionRepository.findRangeDesc(accountNo, from, to)
+                : ledgerTransactionRepository.findRangeAsc(accountNo, from, to);
+
+        return rows.stream().map(this::toRec).toList();
+    }
+
+    // ===== 변환 =====
+
+    private LedgerTransaction toLedgerRow(String accountNo, InquireTransactionHistoryListREC r) {
+        return LedgerTransaction.builder()
+                .accountNo(accountNo)
+                .transactionUniqueNo(r.getTransactionUniqueNo())
+                .transactedAt(parseDateTime(r.getTransactionDate(), r.getTransactionTime()))
+                .transactionDate(r.getTransactionDate())
+                .transactionTime(r.getTransactionTime())
+                .transactionType(r.getTransactionType())
+                .transactionTypeName(r.getTransactionTypeName())
+                .transactionAccountNo(r.getTransactionAccountNo())
+                .amount(parseAmount(r.getTransactionBalance()))
+                .afterBalance(parseAmount(r.getTransactionAfterBalance()))
+                .summary(r.getTransactionSummary())
+                .memo(r.getTransactionMemo())
+                .build();
+    }
+
+    private InquireTransactionHistoryListREC toRec(LedgerTransaction t) {
+        return InquireTransactionHistoryListREC.builder()
+                .transactionUniqueNo(t.getTransactionUniqueNo())
+                .transactionDate(t.getTransactionDate())
+                .transactionTime(t.getTransactionTime())
+                .transactionType(t.getTransactionType())
+                .transactionTypeName(t.getTransactionTypeName())
+                .transactionAccountNo(t.getTransactionAccountNo())
+                .transactionBalance(String.valueOf(t.getAmount()))
+                .transactionAfterBalance(String.valueOf(t.getAfterBalance()))
+                .transactionSummary(t.getSummary())
+                .transactionMemo(t.getMemo())
+                .build();
+    }
+
+    private static LocalDateTime parseDateTime(String date, String time) {
+        String d = (date == null || date.isBlank()) ? "19700101" : date;
+        String t = (time == null || time.isBlank()) ? "000000" : time;
+        return LocalDateTime.of(LocalDate.parse(d, YMD), LocalTime.parse(t, HMS));
+    }
+
+    private static long parseAmount(String s) {
+        if (s == null || s.isBlank()) return 0L;
+        try { return new BigDecimal(s.trim()).longValue(); } catch (NumberFormatException e) { return 0L; }
+    }
+}
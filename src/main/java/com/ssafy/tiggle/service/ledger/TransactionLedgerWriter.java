@@ -0,0 +1,59 @@
+package com.ssafy.tiggle.service.ledger;
+
+import com.ssafy.tiggle.entity.LedgerTransaction;
+import com.ssafy.tiggle.repository.ledger.LedgerTransactionRepository;
+import com.ssafy.tiggle.repository.ledger.LedgerWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionLedgerWriter {
+
+    private final LedgerTransactionRepository ledgerTransactionRepository;
+    private final LedgerWatermarkRepository ledgerWatermarkRepository;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /** 거래 청크를 원장에 반영 (이미 있는 거래는 무시). @return 새로 들어간 행 수 */
+    @Transactional
+    public int insertRows(List<LedgerTransaction> rows) {
+        int inserted = 0;
+        for (LedgerTransaction row : rows) {
+            inserted += ledgerTransactionRepository.insertIgnore(row);
+        }
+        return inserted;
+    }
+
+    /**
+     * 조회 구간 [from, to] 의 거래를 모두 반영한 뒤 워터마크를 갱신한다.
+     * syncedAt 이 null 이면 과거 구간 백필로 보고 마지막 동기화 시각은 건드리지 않는다.
+     */
+    @Transactional
+    public void markSynced(String accountNo, String ownerKeyHash, LocalDate from, LocalDate to, LocalDateTime syncedAt) {
+        ledgerWatermarkRepository.upsert(accountNo, ownerKeyHash, from, to, syncedAt);
+    }
+
+    /**
+     * 앱이 직접 이체/입금/출금한 계좌의 원장을 무효화한다. 이 시각 이전에 시작된 동기화는 최신으로 보지 않으므로
+     * 다음 조회가 동기화 주기와 상관없이 증분 동기화를 한다.
+     */
+    @Transactional
+    public void markStale(Collection<String> accountNos) {
+        List<String> targets = accountNos.stream()
+                .filter(Objects::nonNull)
+                .filter(a -> !a.isBlank())
+                .distinct()
+                .toList();
+        if (targets.isEmpty()) return;
+        ledgerWatermarkRepository.markInvalidated(targets, LocalDateTime.now(KST));
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.tiggle.service.outbox;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+
+public interface TransferOutboxService {
+
+    /**
+     * 이체를 아웃박스에 등록한다. 호출자의 트랜잭션 안에서만 호출 가능 (업무 변경과 함께 커밋/롤백).
+     * 상태/태그/재시도 필드는 여기서 채운다.
+     * @return 같은 idempotencyKey 가 이미 있으면 false
+     */
+    boolean enqueue(TransferOutbox outbox);
+}
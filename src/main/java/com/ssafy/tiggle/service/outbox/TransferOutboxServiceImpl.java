@@ -0,0 +1,45 @@
+package com.ssafy.tiggle.service.outbox;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.entity.TransferOutboxStatus;
+import com.ssafy.tiggle.repository.outbox.TransferOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferOutboxServiceImpl implements TransferOutboxService {
+
+    private final TransferOutboxRepository transferOutboxRepository;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean enqueue(TransferOutbox outbox) {
+        if (outbox.getAmount() == null || outbox.getAmount() <= 0) {
+            throw new IllegalArgumentException("outbox amount must be positive: " + outbox.getAmount());
+        }
+        if (transferOutboxRepository.existsByIdempotencyKey(outbox.getIdempotencyKey())) {
+            log.info("[Outbox] duplicate enqueue skipped key={}", outbox.getIdempotencyKey());
+            return false;
+        }
+
+        outbox.setTag(UUID.randomUUID().toString().replace("-", "").substring(0, 12));
+        outbox.setStatus(TransferOutboxStatus.PENDING);
+        outbox.setAttempts(0);
+        outbox.setNextAttemptAt(LocalDateTime.now(KST));
+        transferOutboxRepository.save(outbox);
+
+        log.info("[Outbox] enqueued type={}, key={}, amount={}", outbox.getType(), outbox.getIdempotencyKey(), outbox.getAmount());
+        return true;
+    }
+}
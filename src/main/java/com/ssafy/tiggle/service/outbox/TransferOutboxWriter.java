@@ -0,0 +1,64 @@
+package com.ssafy.tiggle.service.outbox;
+
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.entity.TransferOutboxType;
+import com.ssafy.tiggle.repository.outbox.TransferOutboxRepository;
+import com.ssafy.tiggle.service.piggybank.PiggyBankWriterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/** 아웃박스 상태 전이 (짧은 트랜잭션 단위) */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferOutboxWriter {
+
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final PiggyBankWriterService piggyBankWriterService;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Transactional
+    public boolean claim(Long id, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        return transferOutboxRepository.claim(id, now, now.plusSeconds(leaseSeconds)) == 1;
+    }
+
+    /** 이체 성공 확정 + 종류별 후처리를 한 트랜잭션으로 (이미 다른 워커가 확정했으면 후처리 생략) */
+    @Transactional
+    public void complete(TransferOutbox o) {
+        int updated = transferOutboxRepository.markSucceeded(o.getId(), LocalDateTime.now(KST));
+        if (updated == 0) {
+            log.warn("[Outbox] complete skipped — not in progress (id={})", o.getId());
+            return;
+        }
+
+        if (o.getType() == TransferOutboxType.DUTCHPAY_TIGGLE || o.getType() == TransferOutboxType.ROUND_UP) {
+            boolean readyNow = piggyBankWriterService.applyTiggle(o.getUserId(), BigDecimal.valueOf(o.getAmount()));
+            if (readyNow) {
+                log.info("[Outbox] userId={} 목표금액 달성(donation_ready=ON)", o.getUserId());
+            }
+        }
+    }
+
+    @Transactional
+    public void reschedule(Long id, LocalDateTime nextAttemptAt, String error) {
+        transferOutboxRepository.reschedule(id, nextAttemptAt, truncate(error));
+    }
+
+    @Transactional
+    public void fail(Long id, String error) {
+        transferOutboxRepository.markFailed(id, LocalDateTime.now(KST), truncate(error));
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= 500 ? s : s.substring(0, 500);
+    }
+}
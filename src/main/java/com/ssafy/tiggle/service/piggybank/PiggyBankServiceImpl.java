@@ -2,7 +2,6 @@ package com.ssafy.tiggle.service.piggybank;
 
 import com.ssafy.tiggle.dto.common.ApiResponse;
 import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
-import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListResponse;
 import com.ssafy.tiggle.dto.piggybank.request.CreatePiggyBankRequest;
 import com.ssafy.tiggle.dto.piggybank.request.PiggyBankEntriesPageRequest;
 import com.ssafy.tiggle.dto.piggybank.request.UpdatePiggyBankSettingsRequest;
@@ -14,6 +13,7 @@ import com.ssafy.tiggle.repository.esg.EsgCategoryRepository;
 import com.ssafy.tiggle.repository.piggybank.PiggyBankRepository;
 import com.ssafy.tiggle.repository.user.StudentRepository;
 import com.ssafy.tiggle.service.finopenapi.FinancialApiService;
+import com.ssafy.tiggle.service.ledger.TransactionLedgerService;
 import com.ssafy.tiggle.service.security.EncryptionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +43,7 @@ public class PiggyBankServiceImpl implements PiggyBankService {
     private final StudentRepository studentRepository;
     private final FinancialApiService financialApiService;
     private final EncryptionService encryptionService;
+    private final TransactionLedgerService transactionLedgerService;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
@@ -215,21 +216,13 @@ public class PiggyBankServiceImpl implements PiggyBankService {
         LocalDate lastWeekStart = today.minusWeeks(1).with(DayOfWeek.MONDAY);
         LocalDate lastWeekEnd   = lastWeekStart.with(DayOfWeek.SUNDAY);
 
-        String start = lastWeekStart.format(YMD);
-        String end   = lastWeekEnd.format(YMD);
-
-        return financialApiService
-                .inquireTransactionHistoryList(userKeyPlain, accountNo, start, end, "A", "ASC")
-                .map(res -> {
-                    if (res == null || res.getRec() == null || res.getRec().getList() == null) {
-                        return BigDecimal.ZERO;
-                    }
-                    return res.getRec().getList().stream()
-                            .filter(this::isDeposit)
-                            .filter(r -> isUserSavingRecord(r, userId)) // 사용자 태그 + 자투리/더치페이 태그
-                            .map(this::txAmount)                         // 거래금액 기준
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                })
+        return transactionLedgerService
+                .getHistory(userKeyPlain, accountNo, lastWeekStart, lastWeekEnd, "ASC")
+                .map(list -> list.stream()
+                        .filter(this::isDeposit)
+                        .filter(r -> isUserSavingRecord(r, userId)) // 사용자 태그 + 자투리/더치페이 태그
+                        .map(this::txAmount)                         // 거래금액 기준
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
                 .onErrorResume(e -> {
                     log.error("[Piggy][Summary] 지난주 적립액 조회 실패 → 0으로 대체 (accountNo={})", maskAccount(accountNo), e);
                     return Mono.just(BigDecimal.ZERO);
@@ -254,13 +247,9 @@ public class PiggyBankServiceImpl implements PiggyBankService {
 
             final String userKey = encryptionService.decrypt(encryptedUserKey);
 
-            return financialApiService.inquireTransactionHistoryList(
-                            userKey, piggy.getAccountNo(),
-                            from.format(YMD), to.format(YMD),
-                            "A", "ASC"
-                    )
-                    .map(res -> {
-                        List<SimpleTx> all = mapToSimpleTxList(res);
+            return transactionLedgerService.getHistory(userKey, piggy.getAccountNo(), from, to, "ASC")
+                    .map(rows -> {
+                        List<SimpleTx> all = mapToSimpleTxList(rows);
 
                         String standard = toStandardType(req.getType()); // "TIGGLE" | "DUTCHPAY" | "ALL"
                         List<SimpleTx> filteredSorted = all.stream()
@@ -313,10 +302,9 @@ public class PiggyBankServiceImpl implements PiggyBankService {
 
     // ===== 내부 유틸 =====
 
-    private List<SimpleTx> mapToSimpleTxList(InquireTransactionHistoryListResponse res) {
-        if (res == null || res.getRec() == null || res.getRec().getList() == null) return List.of();
+    private List<SimpleTx> mapToSimpleTxList(List<InquireTransactionHistoryListREC> rows) {
+        if (rows == null) return List.of();
 
-        List<InquireTransactionHistoryListREC> rows = res.getRec().getList();
         List<SimpleTx> out = new ArrayList<>(rows.size());
 
         for (InquireTransactionHistoryListREC r : rows) {
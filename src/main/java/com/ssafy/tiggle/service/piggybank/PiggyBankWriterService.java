@@ -39,4 +39,22 @@ public class PiggyBankWriterService {
         log.info("[Piggy] applied tiggle amount={}, userId={}, donationReadyNow={}", amount, userId, readyNow);
         return readyNow;
     }
+
+    /** 기부 처리권 선점: donation_ready 1 → 0. 선점 실패(이미 처리 중/완료)면 false */
+    @Transactional
+    public boolean acquireDonationSlot(Long userId) {
+        return studentRepository.acquireDonationSlot(userId) > 0;
+    }
+
+    /** 기부 실패 시 복구: 여전히 목표 달성 상태면 donation_ready 다시 ON */
+    @Transactional
+    public void releaseDonationSlot(Long userId) {
+        studentRepository.markDonationReadyIfReached(userId);
+    }
+
+    /** 기부 출금 반영 (잔액 차감 + 기부 횟수/합계 증가). 잔액이 모자라 반영 못 하면 false */
+    @Transactional
+    public boolean applyDonation(Long piggyId, BigDecimal amount) {
+        return piggyBankRepository.applyDonation(piggyId, amount) > 0;
+    }
 }
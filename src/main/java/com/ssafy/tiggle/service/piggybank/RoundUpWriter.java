@@ -0,0 +1,179 @@
+package com.ssafy.tiggle.service.piggybank;
+
+import com.ssafy.tiggle.entity.LedgerTransaction;
+import com.ssafy.tiggle.entity.RoundUpCursor;
+import com.ssafy.tiggle.entity.TransferOutbox;
+import com.ssafy.tiggle.entity.TransferOutboxType;
+import com.ssafy.tiggle.repository.ledger.LedgerTransactionRepository;
+import com.ssafy.tiggle.repository.piggybank.RoundUpCursorRepository;
+import com.ssafy.tiggle.repository.piggybank.projection.AutoSavingTargetProjection;
+import com.ssafy.tiggle.service.outbox.TransferOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔돈 저축 커서 갱신 (짧은 트랜잭션 단위).
+ * 커서 이동과 저금통 이체 등록(아웃박스)을 한 트랜잭션으로 커밋하므로, 중간에 죽어도 같은 지출의 잔돈이 두 번 저축되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoundUpWriter {
+
+    private final RoundUpCursorRepository roundUpCursorRepository;
+    private final LedgerTransactionRepository ledgerTransactionRepository;
+    private final TransferOutboxService transferOutboxService;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long UNIT = 1000L;
+
+    // 활발한 계좌의 최소 조회 간격 / 휴면 계좌의 최대 조회 간격
+    @Value("${auto-saving.round-up.min-interval-seconds:60}")
+    private long minIntervalSeconds;
+
+    @Value("${auto-saving.round-up.max-interval-seconds:21600}")
+    private long maxIntervalSeconds;
+
+    // 이 금액 이상 쌓이면 저금통으로 이체 (작은 이체가 너무 많아지지 않게)
+    @Value("${auto-saving.round-up.min-transfer:1000}")
+    private long minTransfer;
+
+    // 한 번에 읽을 최대 원장 행 수 (다 못 읽었으면 바로 다시 조회)
+    @Value("${auto-saving.round-up.max-rows-per-poll:500}")
+    private int maxRowsPerPoll;
+
+    /** 자동저축을 켠 유저의 커서 생성. 생성 이전 거래는 잔돈 대상이 아님 */
+    @Transactional
+    public void startTracking(AutoSavingTargetProjection t) {
+        if (roundUpCursorRepository.existsById(t.getOwnerId())) return;
+        LocalDateTime now = LocalDateTime.now(KST);
+        roundUpCursorRepository.save(RoundUpCursor.builder()
+                .userId(t.getOwnerId())
+                .accountNo(t.getPrimaryAccountNo())
+                .lastLedgerId(ledgerTransactionRepository.findMaxId(t.getPrimaryAccountNo()))
+                .trackingSince(now)
+                .pendingAmount(0L)
+                .pollIntervalSeconds(minIntervalSeconds)
+                .nextPollAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    /** 자동저축을 끄면 커서 삭제 (다시 켜면 그 시점부터 새로 추적) */
+    @Transactional
+    public void stopTracking(Long userId) {
+        roundUpCursorRepository.deleteById(userId);
+        log.info("[RoundUp] stop tracking userId={}", userId);
+    }
+
+    @Transactional
+    public boolean claim(Long userId, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        return roundUpCursorRepository.claim(userId, now, now.plusSeconds(leaseSeconds)) == 1;
+    }
+
+    /**
+     * 원장에 새로 들어온 지출의 잔돈을 쌓고, 최소 이체 금액을 넘으면 저금통 이체를 등록한다.
+     * 새 지출이 있으면 조회 간격을 절반으로, 없으면 두 배로 (min~max).
+     *
+     * @return 이번에 등록한 이체 금액 (없으면 0)
+     */
+    @Transactional
+    public long advance(AutoSavingTargetProjection t, String encryptedUserKey) {
+        Optional<RoundUpCursor> found = roundUpCursorRepository.findById(t.getOwnerId());
+        if (found.isEmpty()) return 0;
+        RoundUpCursor c = found.get();
+        LocalDateTime now = LocalDateTime.now(KST);
+
+        // 주계좌가 바뀌었으면 새 계좌의 현재 위치부터 다시 시작 (이전 계좌에 쌓인 잔돈은 그대로 유지)
+        if (!t.getPrimaryAccountNo().equals(c.getAccountNo())) {
+            log.info("[RoundUp] primary account changed — restart cursor userId={}", c.getUserId());
+            c.setAccountNo(t.getPrimaryAccountNo());
+            c.setLastLedgerId(ledgerTransactionRepository.findMaxId(t.getPrimaryAccountNo()));
+            c.setTrackingSince(now);
+            schedule(c, minIntervalSeconds, now);
+            return 0;
+        }
+
+        List<LedgerTransaction> rows = ledgerTransactionRepository.findAfterId(
+                c.getAccountNo(), c.getLastLedgerId(), PageRequest.of(0, maxRowsPerPoll));
+
+        long roundUp = 0;
+        int spends = 0;
+        for (LedgerTransaction row : rows) {
+            if (!isSpending(row, t.getPiggyAccountNo()) || row.getTransactedAt().isBefore(c.getTrackingSince())) continue;
+            long r = (UNIT - row.getAmount() % UNIT) % UNIT;
+            roundUp += r;
+            spends++;
+        }
+        if (!rows.isEmpty()) {
+            c.setLastLedgerId(rows.get(rows.size() - 1).getId());
+        }
+
+        long pending = c.getPendingAmount() + roundUp;
+        long enqueued = 0;
+        if (pending >= minTransfer) {
+            // 키에 커서 위치를 넣어 같은 구간이 두 번 등록되지 않게 함
+            transferOutboxService.enqueue(TransferOutbox.builder()
+                    .idempotencyKey("ROUND_UP:" + c.getUserId() + ":" + c.getLastLedgerId())
+                    .type(TransferOutboxType.ROUND_UP)
+                    .userId(c.getUserId())
+                    .encryptedUserKey(encryptedUserKey)
+                    .depositAccountNo(t.getPiggyAccountNo())
+                    .depositSummary("[TIGGLE][ROUNDUP][UID:" + c.getUserId() + "] 잔돈 저축")
+                    .withdrawalAccountNo(c.getAccountNo())
+                    .withdrawalSummary("[TIGGLE][ROUNDUP] 잔돈 저축")
+                    .amount(pending)
+                    .verifyOnDeposit(true)
+                    .build());
+            enqueued = pending;
+            pending = 0;
+        }
+        c.setPendingAmount(pending);
+
+        long interval;
+        if (rows.size() >= maxRowsPerPoll) {
+            interval = 0; // 아직 읽을 거래가 남음
+        } else if (spends > 0) {
+            c.setLastActivityAt(now);
+            interval = Math.max(minIntervalSeconds, c.getPollIntervalSeconds() / 2);
+        } else {
+            interval = Math.min(maxIntervalSeconds, c.getPollIntervalSeconds() * 2);
+        }
+        schedule(c, interval, now);
+
+        if (spends > 0) {
+            log.debug("[RoundUp] userId={} spends={}, roundUp={}, pending={}, enqueued={}, nextIn={}s",
+                    c.getUserId(), spends, roundUp, pending, enqueued, interval);
+        }
+        return enqueued;
+    }
+
+    private void schedule(RoundUpCursor c, long intervalSeconds, LocalDateTime now) {
+        if (intervalSeconds > 0) c.setPollIntervalSeconds(intervalSeconds);
+        c.setNextPollAt(now.plusSeconds(intervalSeconds));
+        c.setUpdatedAt(now);
+    }
+
+    /** 주계좌 출금 중 실제 지출만 (저금통으로 보낸 이체, 티끌 자체 이체는 제외) */
+    private static boolean isSpending(LedgerTransaction row, String piggyAccountNo) {
+        String type = Optional.ofNullable(row.getTransactionType()).orElse("");
+        String typeName = Optional.ofNullable(row.getTransactionTypeName()).orElse("");
+        boolean withdrawal = "2".equals(type) || typeName.contains("출금");
+        if (!withdrawal || row.getAmount() == null || row.getAmount() <= 0) return false;
+
+        if (piggyAccountNo != null && piggyAccountNo.equals(row.getTransactionAccountNo())) return false;
+        String s = Optional.ofNullable(row.getSummary()).orElse("");
+        String m = Optional.ofNullable(row.getMemo()).orElse("");
+        return !s.contains("[TIGGLE]") && !m.contains("[TIGGLE]");
+    }
+}
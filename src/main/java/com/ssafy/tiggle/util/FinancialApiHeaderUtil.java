@@ -2,33 +2,20 @@ package com.ssafy.tiggle.util;
 
 import com.ssafy.tiggle.dto.finopenapi.request.Header;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Random;
-
 public class FinancialApiHeaderUtil {
-    
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmmss");
-    private static final Random random = new Random();
-    
-    public static Header createHeader(String apiName, String apiKey, String userKey) {
-        LocalDateTime now = LocalDateTime.now();
-        String transmissionDate = now.format(DATE_FORMATTER);
-        String transmissionTime = now.format(TIME_FORMATTER);
-        String randomNumber = String.format("%06d", random.nextInt(1000000));
-        String institutionTransactionUniqueNo = transmissionDate + transmissionTime + randomNumber;
-        
+
+    // 고유번호/전송일시는 TransactionUniqueNoAllocator 빈이 발급 (노드ID 는 FinancialApiNodeConfig 에서 설정)
+    public static Header createHeader(TransactionUniqueNoAllocator.Allocation id, String apiName, String apiKey, String userKey) {
         return Header.builder()
                 .apiName(apiName)
-                .transmissionDate(transmissionDate)
-                .transmissionTime(transmissionTime)
+                .transmissionDate(id.transmissionDate())
+                .transmissionTime(id.transmissionTime())
                 .institutionCode("00100")
                 .fintechAppNo("001")
                 .apiServiceCode(apiName)
-                .institutionTransactionUniqueNo(institutionTransactionUniqueNo)
+                .institutionTransactionUniqueNo(id.uniqueNo())
                 .apiKey(apiKey)
                 .userKey(userKey)
                 .build();
     }
-}
\ No newline at end of file
+}
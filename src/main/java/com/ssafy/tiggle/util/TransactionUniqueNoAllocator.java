@@ -0,0 +1,111 @@
+package com.ssafy.tiggle.util;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 금융 API 기관거래고유번호(20자리) 발급기: yyyyMMddHHmmss(14) + 노드ID(2) + 초당 순번(4).
+ * - (초, 순번)을 AtomicLong 하나에 담아 CAS 로 증가시키므로 락 없이 스레드 간 중복이 없다.
+ * - 노드ID 가 다르면 서버 간에도 중복이 없다. (finapi.node-id / FINAPI_NODE_ID, 0~99)
+ * - 한 초에 순번(10000개)을 다 쓰면 다음 초 번호를 미리 사용하고, 시계가 뒤로 가도 마지막 초 이후로만 발급한다.
+ * - 생성된 초는 건너뛰고 다음 초부터 발급한다 (같은 초 안에 재시작해도 이전 프로세스가 쓴 순번과 겹치지 않음).
+ * 전송일자/시각도 발급된 초에서 만들어 고유번호 앞 14자리와 항상 일치한다.
+ */
+public final class TransactionUniqueNoAllocator {
+
+    private static final int SEQ_PER_SECOND = 10_000;
+
+    private final int nodeId;
+    private final ZoneId zone;
+    // second * SEQ_PER_SECOND + seq
+    private final AtomicLong state = new AtomicLong();
+
+    private final LongSupplier clockMillis;
+
+    public TransactionUniqueNoAllocator(int nodeId, ZoneId zone) {
+        this(nodeId, zone, System::currentTimeMillis);
+    }
+
+    TransactionUniqueNoAllocator(int nodeId, ZoneId zone, LongSupplier clockMillis) {
+        if (nodeId < 0 || nodeId > 99) throw new IllegalArgumentException("nodeId must be 0~99: " + nodeId);
+        this.nodeId = nodeId;
+        this.zone = zone;
+        this.clockMillis = clockMillis;
+        // 현재 초의 순번을 모두 쓴 것으로 시작 → 첫 발급은 다음 초 (같은 초에 죽은 이전 프로세스와 겹치지 않게)
+        this.state.set(clockMillis.getAsLong() / 1000 * SEQ_PER_SECOND + (SEQ_PER_SECOND - 1));
+    }
+
+    /** 발급 결과: 고유번호(20자리)와 같은 초의 전송일자(8)/전송시각(6) */
+    public record Allocation(String uniqueNo, String transmissionDate, String transmissionTime) {}
+
+    public Allocation next() {
+        long nowSec = clockMillis.getAsLong() / 1000;
+        long cur, next;
+        do {
+            cur = state.get();
+            long curSec = cur / SEQ_PER_SECOND;
+            long seq = cur % SEQ_PER_SECOND;
+            if (nowSec > curSec) {
+                next = nowSec * SEQ_PER_SECOND;
+            } else if (seq + 1 < SEQ_PER_SECOND) {
+                next = cur + 1;
+            } else {
+                next = (curSec + 1) * SEQ_PER_SECOND;
+            }
+        } while (!state.compareAndSet(cur, next));
+
+        return format(next / SEQ_PER_SECOND, (int) (next % SEQ_PER_SECOND));
+    }
+
+    private Allocation format(long epochSecond, int seq) {
+        ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        LocalDateTime t = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+
+        char[] buf = new char[20];
+        put(buf, 0, t.getYear(), 4);
+        put(buf, 4, t.getMonthValue(), 2);
+        put(buf, 6, t.getDayOfMonth(), 2);
+        put(buf, 8, t.getHour(), 2);
+        put(buf, 10, t.getMinute(), 2);
+        put(buf, 12, t.getSecond(), 2);
+        put(buf, 14, nodeId, 2);
+        put(buf, 16, seq, 4);
+
+        String uniqueNo = new String(buf);
+        return new Allocation(uniqueNo, uniqueNo.substring(0, 8), uniqueNo.substring(8, 14));
+    }
+
+    private static void put(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * 설정된 노드ID(finapi.node-id) 를 해석한다.
+     * 미설정이면 required 일 때 실패하고, 아니면 호스트명 해시로 추정한다 —
+     * 해시는 노드끼리 겹칠 수 있어 서버 간 고유번호가 중복될 수 있으므로 운영에서는 값을 지정해야 한다.
+     */
+    public static int resolveNodeId(String configured, boolean required) {
+        if (configured != null && !configured.isBlank()) return Integer.parseInt(configured.trim());
+        if (required) {
+            throw new IllegalStateException("FINAPI_NODE_ID (0~99) must be set to a value unique per server");
+        }
+
+        String host = System.getenv("HOSTNAME");
+        if (host == null) {
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                host = "";
+            }
+        }
+        return Math.floorMod(host.hashCode(), 100);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.tiggle.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+public class UserKeyHashUtil {
+
+    // userKey 원문을 저장하지 않고 소유자 식별에만 쓰는 SHA-256 해시(hex)
+    public static String sha256Hex(String userKey) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest((userKey == null ? "" : userKey).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.ssafy.tiggle.exception.account.AccountException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FinancialApiResilienceTest {
+
+    private static final String API = "inquireDemandDepositAccount";
+    private static final long OPEN_MS = 1000;
+
+    private FinancialApiResilience resilience;
+
+    @BeforeEach
+    void setUp() {
+        resilience = new FinancialApiResilience(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resilience, "initialLimit", 20);
+        ReflectionTestUtils.setField(resilience, "minLimit", 4);
+        ReflectionTestUtils.setField(resilience, "maxLimit", 100);
+        ReflectionTestUtils.setField(resilience, "slowCallMs", 3000L);
+        ReflectionTestUtils.setField(resilience, "decreaseRatio", 0.7);
+        ReflectionTestUtils.setField(resilience, "interactiveReserveRatio", 0.3);
+        ReflectionTestUtils.setField(resilience, "batchRatePerSecond", 10.0);
+        ReflectionTestUtils.setField(resilience, "batchMaxWaitMs", 1000L);
+        ReflectionTestUtils.setField(resilience, "batchPollMs", 100L);
+        ReflectionTestUtils.setField(resilience, "windowSize", 4);
+        ReflectionTestUtils.setField(resilience, "minCalls", 4);
+        ReflectionTestUtils.setField(resilience, "failureRatePercent", 50);
+        ReflectionTestUtils.setField(resilience, "openSeconds", OPEN_MS / 1000);
+        resilience.init();
+    }
+
+    @Test
+    void closedOpenHalfOpenClosed() throws InterruptedException {
+        ok();
+        ok();
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.CLOSED);
+
+        // CLOSED → OPEN: 최근 4건 중 50% 이상 실패
+        fail();
+        fail();
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.OPEN);
+
+        // OPEN 동안은 외부 호출 없이 즉시 실패
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        assertThatThrownBy(() -> resilience.guard(API, Mono.fromCallable(upstreamCalls::incrementAndGet)).block())
+                .isInstanceOf(AccountException.class);
+        assertThat(upstreamCalls).hasValue(0);
+
+        // OPEN → HALF_OPEN: open-seconds 가 지나면 시험 호출 한 건만 통과
+        Thread.sleep(OPEN_MS + 100);
+        Sinks.One<String> probe = Sinks.one();
+        resilience.guard(API, probe.asMono()).subscribe();
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.HALF_OPEN);
+        assertThatThrownBy(() -> resilience.guard(API, Mono.just("second")).block())
+                .isInstanceOf(AccountException.class);
+
+        // HALF_OPEN → CLOSED: 시험 호출 성공
+        probe.tryEmitValue("ok");
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.CLOSED);
+        assertThat(resilience.guard(API, Mono.just("after")).block()).isEqualTo("after");
+    }
+
+    @Test
+    void onlyTheProbeOutcomeChangesHalfOpenState() throws InterruptedException {
+        // OPEN 전에 통과한 느린 호출
+        Sinks.One<String> straggler = Sinks.one();
+        resilience.guard(API, straggler.asMono()).subscribe(v -> { }, e -> { });
+
+        for (int i = 0; i < 4; i++) fail();
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.OPEN);
+
+        Thread.sleep(OPEN_MS + 100);
+        Sinks.One<String> probe = Sinks.one();
+        resilience.guard(API, probe.asMono()).subscribe(v -> { }, e -> { });
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.HALF_OPEN);
+
+        // 시험 호출이 아닌 호출의 성공은 서킷을 닫지 않음
+        straggler.tryEmitValue("late");
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.HALF_OPEN);
+
+        // 시험 호출 실패 → 다시 OPEN
+        probe.tryEmitError(new TimeoutException("probe timeout"));
+        assertThat(resilience.circuitState(API)).isEqualTo(FinancialApiResilience.State.OPEN);
+    }
+
+    private void ok() {
+        resilience.guard(API, Mono.just("ok")).block();
+    }
+
+    private void fail() {
+        resilience.guard(API, Mono.<String>error(new TimeoutException("upstream timeout")))
+                .onErrorResume(TimeoutException.class, e -> Mono.empty())
+                .block();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.tiggle.service.finopenapi;
+
+import com.ssafy.tiggle.dto.finopenapi.response.InquireTransactionHistoryListREC;
+import com.ssafy.tiggle.exception.account.AccountException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionHistoryStreamDecoderTest {
+
+    private static final String OK_BODY = """
+            {"Header":{"responseCode":"H0000","responseMessage":"정상처리 되었습니다."},
+             "REC":{"totalCount":"3","list":[
+               {"transactionUniqueNo":"101","transactionDate":"20250901","transactionTime":"093000",
+                "transactionType":"2","transactionTypeName":"출금","transactionBalance":"4300",
+                "transactionAfterBalance":"95700","transactionSummary":"편의점","transactionMemo":""},
+               {"transactionUniqueNo":"102","transactionDate":"20250901","transactionTime":"120000",
+                "transactionType":"1","transactionTypeName":"입금","transactionBalance":"10000",
+                "transactionAfterBalance":"105700","transactionSummary":"용돈","transactionMemo":null},
+               {"transactionUniqueNo":"103","transactionDate":"20250902","transactionTime":"080000",
+                "transactionType":"2","transactionTypeName":"출금(이체)","transactionBalance":"1250",
+                "transactionAfterBalance":"104450","transactionSummary":"버스","transactionMemo":"교통"}
+             ]}}
+            """;
+
+    @Test
+    void decodesRecordsSplitAcrossArbitraryBufferBoundaries() {
+        byte[] bytes = OK_BODY.getBytes(StandardCharsets.UTF_8);
+
+        // 한글(멀티바이트)과 토큰 중간에서도 잘리도록 여러 크기로 나눠 본다
+        for (int size : new int[]{1, 3, 7, 64, bytes.length}) {
+            List<InquireTransactionHistoryListREC> recs = TransactionHistoryStreamDecoder
+                    .decode(split(bytes, size), TransactionHistoryFilters.all())
+                    .collectList()
+                    .block();
+
+            assertThat(recs).as("chunk size %d", size).hasSize(3);
+            assertThat(recs).extracting(InquireTransactionHistoryListREC::getTransactionUniqueNo)
+                    .containsExactly("101", "102", "103");
+            assertThat(recs.get(0).getTransactionSummary()).isEqualTo("편의점");
+            assertThat(recs.get(1).getTransactionMemo()).isNull();
+            assertThat(recs.get(2).getTransactionBalance()).isEqualTo("1250");
+        }
+    }
+
+    @Test
+    void appliesFilterWhileDecoding() {
+        List<InquireTransactionHistoryListREC> recs = TransactionHistoryStreamDecoder
+                .decode(split(OK_BODY.getBytes(StandardCharsets.UTF_8), 5), r -> "2".equals(r.getTransactionType()))
+                .collectList()
+                .block();
+
+        assertThat(recs).extracting(InquireTransactionHistoryListREC::getTransactionUniqueNo)
+                .containsExactly("101", "103");
+    }
+
+    @Test
+    void failsOnNonSuccessHeaderBeforeReadingList() {
+        String body = """
+                {"Header":{"responseCode":"A1003","responseMessage":"계좌번호가 유효하지 않습니다."},
+                 "REC":{"list":[{"transactionUniqueNo":"1"}]}}
+                """;
+
+        List<InquireTransactionHistoryListREC> emitted = new ArrayList<>();
+        Flux<InquireTransactionHistoryListREC> decoded = TransactionHistoryStreamDecoder
+                .decode(split(body.getBytes(StandardCharsets.UTF_8), 4), TransactionHistoryFilters.all())
+                .doOnNext(emitted::add);
+
+        assertThatThrownBy(decoded::blockLast)
+                .isInstanceOf(AccountException.class)
+                .hasMessage("계좌번호가 유효하지 않습니다.");
+        assertThat(emitted).isEmpty();
+    }
+
+    @Test
+    void failsOnTopLevelErrorResponse() {
+        String body = """
+                {"responseCode":"Q1000","responseMessage":"요청 본문의 형식이 잘못되었습니다."}
+                """;
+
+        assertThatThrownBy(() -> TransactionHistoryStreamDecoder
+                .decode(split(body.getBytes(StandardCharsets.UTF_8), 6), TransactionHistoryFilters.all())
+                .blockLast())
+                .isInstanceOf(AccountException.class)
+                .hasMessage("요청 본문의 형식이 잘못되었습니다.");
+    }
+
+    @Test
+    void failsOnTruncatedBody() {
+        byte[] bytes = OK_BODY.getBytes(StandardCharsets.UTF_8);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThatThrownBy(() -> TransactionHistoryStreamDecoder
+                .decode(split(truncated, 16), TransactionHistoryFilters.all())
+                .blockLast())
+                // 토큰 경계에서 잘리면 깊이 검사, 토큰 중간에서 잘리면 파서가 먼저 실패한다
+                .isInstanceOfAny(IllegalStateException.class, UncheckedIOException.class);
+    }
+
+    private static Flux<DataBuffer> split(byte[] bytes, int size) {
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            int end = Math.min(bytes.length, i + size);
+            buffers.add(factory.wrap(Arrays.copyOfRange(bytes, i, end)));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
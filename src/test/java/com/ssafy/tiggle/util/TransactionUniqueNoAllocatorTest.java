@@ -0,0 +1,98 @@
+package com.ssafy.tiggle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionUniqueNoAllocatorTest {
+
+    private static final DateTimeFormatter SEC = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final long START_SEC = 1_757_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(START_SEC * 1000 + 500);
+    private final TransactionUniqueNoAllocator allocator = new TransactionUniqueNoAllocator(7, ZoneOffset.UTC, clock::get);
+
+    @Test
+    void skipsTheSecondItWasCreatedIn() {
+        // 같은 초 안에 재시작해도 이전 프로세스가 쓴 (초, 순번) 과 겹치지 않도록 다음 초부터 발급
+        TransactionUniqueNoAllocator.Allocation first = allocator.next();
+
+        assertThat(first.uniqueNo()).isEqualTo(sec(START_SEC + 1) + "07" + "0000");
+        assertThat(first.transmissionDate() + first.transmissionTime()).isEqualTo(sec(START_SEC + 1));
+    }
+
+    @Test
+    void borrowsTheNextSecondWhenSequenceRollsOver() {
+        clock.set((START_SEC + 1) * 1000);
+        for (int seq = 0; seq < 10_000; seq++) {
+            assertThat(allocator.next().uniqueNo()).isEqualTo(sec(START_SEC + 1) + "07" + String.format("%04d", seq));
+        }
+
+        // 순번을 다 쓰면 아직 오지 않은 다음 초 번호를 사용
+        TransactionUniqueNoAllocator.Allocation borrowed = allocator.next();
+        assertThat(borrowed.uniqueNo()).isEqualTo(sec(START_SEC + 2) + "070000");
+        assertThat(borrowed.transmissionTime()).isEqualTo(sec(START_SEC + 2).substring(8));
+
+        // 빌려 쓴 초에 실제로 도달해도 순번을 처음부터 다시 쓰지 않음
+        clock.set((START_SEC + 2) * 1000 + 10);
+        assertThat(allocator.next().uniqueNo()).isEqualTo(sec(START_SEC + 2) + "070001");
+
+        // 시계가 앞서 나가면 그 초의 0 번부터
+        clock.set((START_SEC + 5) * 1000);
+        assertThat(allocator.next().uniqueNo()).isEqualTo(sec(START_SEC + 5) + "070000");
+    }
+
+    @Test
+    void neverGoesBackWhenClockMovesBackwards() {
+        clock.set((START_SEC + 5) * 1000);
+        allocator.next();
+
+        clock.set((START_SEC + 3) * 1000);
+        assertThat(allocator.next().uniqueNo()).isEqualTo(sec(START_SEC + 5) + "070001");
+    }
+
+    @Test
+    void concurrentAllocationsAreUnique() throws InterruptedException {
+        clock.set((START_SEC + 1) * 1000);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 6_000; i++) issued.add(allocator.next().uniqueNo());
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+
+        // 24000 건 = 1초 10000 건 + 빌려 쓴 2초
+        assertThat(issued).hasSize(24_000);
+        Set<String> seconds = new HashSet<>();
+        issued.forEach(no -> seconds.add(no.substring(0, 14)));
+        assertThat(seconds).containsExactlyInAnyOrder(sec(START_SEC + 1), sec(START_SEC + 2), sec(START_SEC + 3));
+    }
+
+    @Test
+    void resolvesConfiguredNodeIdOrFallsBackUnlessRequired() {
+        assertThat(TransactionUniqueNoAllocator.resolveNodeId(" 12 ", true)).isEqualTo(12);
+        assertThat(TransactionUniqueNoAllocator.resolveNodeId("", false)).isBetween(0, 99);
+        assertThatThrownBy(() -> TransactionUniqueNoAllocator.resolveNodeId("", true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TransactionUniqueNoAllocator.resolveNodeId(null, true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String sec(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(SEC);
+    }
+}